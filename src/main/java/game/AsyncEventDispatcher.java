@@ -0,0 +1,337 @@
+package game;
+
+import game.GameEngine.GameEngineListener;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Moves listener work off the engine thread.
+ * Register it as the engine's only listener and add the real listeners here instead:
+ * each engine callback is copied into a preallocated ring slot and every listener
+ * consumes the ring on its own thread, so a slow listener never delays processKeyPress.
+ * The ring has a single producer (the thread driving the engine); when the slowest
+ * listener falls a full ring behind, the producer waits using the configured strategy.
+ * GameState arguments are copied when the callback is published, so each listener
+ * sees the state as of that callback and never shares mutable state with the engine.
+ */
+public class AsyncEventDispatcher implements GameEngineListener {
+    // Event types
+    private static final int GAME_INITIALIZED = 0;
+    private static final int ROUND_STARTED = 1;
+    private static final int GESTURE_SUBMITTED = 2;
+    private static final int ROUND_RESULT = 3;
+    private static final int GAME_ENDED = 4;
+    private static final int ROUND_OUTCOME = 5;
+    private static final int FREE_FOR_ALL_OUTCOME = 6;
+    
+    /**
+     * How a thread waits for the ring to make progress
+     */
+    public enum WaitStrategy {
+        /** Lowest latency, burns a core per waiting thread */
+        BUSY_SPIN,
+        /** Spins briefly, then yields the CPU between checks */
+        YIELDING,
+        /** Spins, yields, then parks for short intervals; lowest CPU use */
+        SLEEPING;
+        
+        void idle(int attempt) {
+            switch (this) {
+                case BUSY_SPIN:
+                    Thread.onSpinWait();
+                    break;
+                case YIELDING:
+                    if (attempt < 100) {
+                        Thread.onSpinWait();
+                    } else {
+                        Thread.yield();
+                    }
+                    break;
+                default:
+                    if (attempt < 100) {
+                        Thread.onSpinWait();
+                    } else if (attempt < 200) {
+                        Thread.yield();
+                    } else {
+                        LockSupport.parkNanos(100_000);
+                    }
+                    break;
+            }
+        }
+    }
+    
+    private final Slot[] ring;
+    private final int mask;
+    private final WaitStrategy waitStrategy;
+    private final AtomicLong cursor = new AtomicLong(-1);
+    private final List<Consumer> consumers = new ArrayList<>();
+    private volatile Consumer[] gating = new Consumer[0];
+    private long cachedGatingSequence = -1;
+    private volatile boolean running;
+    
+    /**
+     * Create a dispatcher
+     * @param capacity Ring size, rounded up to a power of two
+     * @param waitStrategy How producer and consumers wait
+     */
+    public AsyncEventDispatcher(int capacity, WaitStrategy waitStrategy) {
+        if (capacity <= 0 || capacity > (1 << 30)) {
+            throw new IllegalArgumentException("capacity must be between 1 and 2^30");
+        }
+        int size = Integer.highestOneBit(capacity);
+        if (size < capacity) {
+            size <<= 1;
+        }
+        ring = new Slot[size];
+        for (int i = 0; i < size; i++) {
+            ring[i] = new Slot();
+        }
+        mask = size - 1;
+        this.waitStrategy = waitStrategy;
+    }
+    
+    /**
+     * Add a listener with its own consumer thread. Must be called before start().
+     * @param listener The listener to run asynchronously
+     */
+    public synchronized void addListener(GameEngineListener listener) {
+        if (running) {
+            throw new IllegalStateException("Listeners must be added before start()");
+        }
+        consumers.add(new Consumer(listener, consumers.size()));
+        gating = consumers.toArray(new Consumer[0]);
+    }
+    
+    /**
+     * Start the consumer threads
+     */
+    public synchronized void start() {
+        if (running) {
+            return;
+        }
+        running = true;
+        for (Consumer consumer : consumers) {
+            consumer.thread.start();
+        }
+    }
+    
+    /**
+     * Stop the consumer threads after they have handled every published event
+     */
+    public void shutdown() {
+        running = false;
+        for (Consumer consumer : gating) {
+            try {
+                consumer.thread.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+    
+    /**
+     * Get how many published events a listener has not handled yet
+     * @param listener A listener added to this dispatcher
+     * @return Current lag in events, or -1 if the listener is unknown
+     */
+    public long getLag(GameEngineListener listener) {
+        Consumer consumer = find(listener);
+        return consumer == null ? -1 : cursor.get() - consumer.sequence.get();
+    }
+    
+    /**
+     * Get the largest lag a listener has shown when it picked up a batch of events
+     * @param listener A listener added to this dispatcher
+     * @return Maximum lag in events, or -1 if the listener is unknown
+     */
+    public long getMaxLag(GameEngineListener listener) {
+        Consumer consumer = find(listener);
+        return consumer == null ? -1 : consumer.maxLag;
+    }
+    
+    public int getCapacity() {
+        return ring.length;
+    }
+    
+    private Consumer find(GameEngineListener listener) {
+        for (Consumer consumer : gating) {
+            if (consumer.listener == listener) {
+                return consumer;
+            }
+        }
+        return null;
+    }
+    
+    // Producer side: claim, fill and publish one slot per callback
+    
+    private Slot claim(long sequence) {
+        long wrapPoint = sequence - ring.length;
+        if (wrapPoint > cachedGatingSequence) {
+            int attempt = 0;
+            long minSequence;
+            while (wrapPoint > (minSequence = minimumConsumerSequence(sequence - 1))) {
+                waitStrategy.idle(attempt++);
+            }
+            cachedGatingSequence = minSequence;
+        }
+        return ring[(int) (sequence & mask)];
+    }
+    
+    private long minimumConsumerSequence(long defaultValue) {
+        long min = defaultValue;
+        for (Consumer consumer : gating) {
+            min = Math.min(min, consumer.sequence.get());
+        }
+        return min;
+    }
+    
+    private void publish(int type, int number, Gesture gesture1, Gesture gesture2, String message,
+                         GameState gameState, RoundOutcome outcome, FreeForAllOutcome freeForAllOutcome) {
+        long sequence = cursor.get() + 1;
+        claim(sequence).fill(type, number, gesture1, gesture2, message, gameState, outcome, freeForAllOutcome);
+        cursor.lazySet(sequence);
+    }
+    
+    @Override
+    public void onGameInitialized(GameState gameState) {
+        publish(GAME_INITIALIZED, 0, null, null, null, gameState.copy(), null, null);
+    }
+    
+    @Override
+    public void onRoundStarted(int roundNumber) {
+        publish(ROUND_STARTED, roundNumber, null, null, null, null, null, null);
+    }
+    
+    @Override
+    public void onPlayerGestureSubmitted(int playerNumber, Gesture gesture) {
+        publish(GESTURE_SUBMITTED, playerNumber, gesture, null, null, null, null, null);
+    }
+    
+    @Override
+    public void onRoundResult(Gesture gesture1, Gesture gesture2, int winner, String message) {
+        publish(ROUND_RESULT, winner, gesture1, gesture2, message, null, null, null);
+    }
+    
+    @Override
+    public void onRoundOutcome(RoundOutcome outcome) {
+        // Forward the outcome itself so text is only rendered if a listener asks for it
+        publish(ROUND_OUTCOME, 0, null, null, null, null, outcome, null);
+    }
+    
+    @Override
+    public void onFreeForAllOutcome(FreeForAllOutcome outcome) {
+        publish(FREE_FOR_ALL_OUTCOME, 0, null, null, null, null, null, outcome);
+    }
+    
+    @Override
+    public void onGameEnded(int winner, GameState gameState) {
+        publish(GAME_ENDED, winner, null, null, null, gameState.copy(), null, null);
+    }
+    
+    /**
+     * Preallocated ring entry holding the arguments of one callback
+     */
+    private static class Slot {
+        int type;
+        int number;
+        Gesture gesture1;
+        Gesture gesture2;
+        String message;
+        GameState gameState;
+        RoundOutcome outcome;
+        FreeForAllOutcome freeForAllOutcome;
+        
+        /**
+         * Overwrite every field, so no reference from an earlier event outlives it
+         */
+        void fill(int type, int number, Gesture gesture1, Gesture gesture2, String message,
+                  GameState gameState, RoundOutcome outcome, FreeForAllOutcome freeForAllOutcome) {
+            this.type = type;
+            this.number = number;
+            this.gesture1 = gesture1;
+            this.gesture2 = gesture2;
+            this.message = message;
+            this.gameState = gameState;
+            this.outcome = outcome;
+            this.freeForAllOutcome = freeForAllOutcome;
+        }
+    }
+    
+    /**
+     * A listener, its thread and how far it has consumed the ring
+     */
+    private class Consumer implements Runnable {
+        final GameEngineListener listener;
+        final AtomicLong sequence = new AtomicLong(-1);
+        final Thread thread;
+        volatile long maxLag;
+        
+        Consumer(GameEngineListener listener, int index) {
+            this.listener = listener;
+            this.thread = new Thread(this, "event-dispatch-" + index);
+            this.thread.setDaemon(true);
+        }
+        
+        @Override
+        public void run() {
+            long next = sequence.get() + 1;
+            int attempt = 0;
+            while (true) {
+                long available = cursor.get();
+                if (available < next) {
+                    // Re-read the cursor so events published just before shutdown are not lost
+                    if (!running && cursor.get() < next) {
+                        return;
+                    }
+                    waitStrategy.idle(attempt++);
+                    continue;
+                }
+                attempt = 0;
+                long lag = available - next + 1;
+                if (lag > maxLag) {
+                    maxLag = lag;
+                }
+                for (; next <= available; next++) {
+                    dispatch(ring[(int) (next & mask)]);
+                    // Release each slot as soon as it is handled so the producer can reuse it
+                    sequence.lazySet(next);
+                }
+            }
+        }
+        
+        private void dispatch(Slot slot) {
+            try {
+                switch (slot.type) {
+                    case GAME_INITIALIZED:
+                        listener.onGameInitialized(slot.gameState);
+                        break;
+                    case ROUND_STARTED:
+                        listener.onRoundStarted(slot.number);
+                        break;
+                    case GESTURE_SUBMITTED:
+                        listener.onPlayerGestureSubmitted(slot.number, slot.gesture1);
+                        break;
+                    case ROUND_RESULT:
+                        listener.onRoundResult(slot.gesture1, slot.gesture2, slot.number, slot.message);
+                        break;
+                    case ROUND_OUTCOME:
+                        listener.onRoundOutcome(slot.outcome);
+                        break;
+                    case FREE_FOR_ALL_OUTCOME:
+                        listener.onFreeForAllOutcome(slot.freeForAllOutcome);
+                        break;
+                    case GAME_ENDED:
+                        listener.onGameEnded(slot.number, slot.gameState);
+                        break;
+                    default:
+                        break;
+                }
+            } catch (RuntimeException e) {
+                System.out.println("Listener failed on event " + slot.type + ": " + e);
+            }
+        }
+    }
+}
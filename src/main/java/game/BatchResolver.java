@@ -0,0 +1,238 @@
+package game;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Resolves large streams of gesture pairs without going through Gesture objects.
+ * Both streams hold gesture ordinals, one byte per round. The inner loops use only
+ * arithmetic on the ordinals (no table reads, no branches), which keeps them
+ * simple counted loops the JIT can unroll and vectorize.
+ * Values outside [0, rules.size()) give unspecified results.
+ */
+public class BatchResolver {
+    private static final int PARALLEL_THRESHOLD = 1 << 16;
+    
+    private final GestureRules rules;
+    private final int size;
+    private final int half;
+    
+    public BatchResolver() {
+        this(GestureRules.CLASSIC);
+    }
+    
+    public BatchResolver(GestureRules rules) {
+        this.rules = rules;
+        this.size = rules.size();
+        this.half = (rules.size() - 1) / 2;
+    }
+    
+    public GestureRules getRules() {
+        return rules;
+    }
+    
+    /**
+     * Count outcomes over two gesture streams
+     * @param first Ordinals thrown by the first player
+     * @param second Ordinals thrown by the second player
+     * @return Win/loss/draw counts
+     */
+    public Counts resolve(byte[] first, byte[] second) {
+        checkLengths(first.length, second.length);
+        return count(first, second, null, 0, first.length);
+    }
+    
+    /**
+     * Count outcomes and record each round's result
+     * @param first Ordinals thrown by the first player
+     * @param second Ordinals thrown by the second player
+     * @param results Receives DRAW, FIRST_WINS or SECOND_WINS per index
+     * @return Win/loss/draw counts
+     */
+    public Counts resolve(byte[] first, byte[] second, byte[] results) {
+        checkLengths(first.length, second.length);
+        checkLengths(first.length, results.length);
+        return count(first, second, results, 0, first.length);
+    }
+    
+    /**
+     * Count outcomes over the remaining bytes of two buffers.
+     * Buffer positions are not changed.
+     * @param first Ordinals thrown by the first player
+     * @param second Ordinals thrown by the second player
+     * @return Win/loss/draw counts
+     */
+    public Counts resolve(ByteBuffer first, ByteBuffer second) {
+        checkLengths(first.remaining(), second.remaining());
+        if (first.hasArray() && second.hasArray()
+                && first.arrayOffset() + first.position() == 0
+                && second.arrayOffset() + second.position() == 0) {
+            return count(first.array(), second.array(), null, 0, first.remaining());
+        }
+        
+        int length = first.remaining();
+        int firstBase = first.position();
+        int secondBase = second.position();
+        long firstWins = 0;
+        long secondWins = 0;
+        for (int i = 0; i < length; i++) {
+            int code = code(first.get(firstBase + i), second.get(secondBase + i));
+            firstWins += code & 1;
+            secondWins += code >>> 1;
+        }
+        return new Counts(firstWins, secondWins, length - firstWins - secondWins);
+    }
+    
+    /**
+     * Count outcomes, splitting large inputs across a fork/join pool
+     * @param first Ordinals thrown by the first player
+     * @param second Ordinals thrown by the second player
+     * @param results Receives per-index results, or null if only counts are needed
+     * @param parallelism Number of worker threads
+     * @return Win/loss/draw counts
+     */
+    public Counts resolveParallel(byte[] first, byte[] second, byte[] results, int parallelism) {
+        checkLengths(first.length, second.length);
+        if (results != null) {
+            checkLengths(first.length, results.length);
+        }
+        if (parallelism <= 1 || first.length < PARALLEL_THRESHOLD) {
+            return count(first, second, results, 0, first.length);
+        }
+        
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try {
+            int chunk = Math.max(PARALLEL_THRESHOLD, first.length / (parallelism * 4));
+            return pool.invoke(new CountTask(first, second, results, 0, first.length, chunk));
+        } finally {
+            pool.shutdown();
+        }
+    }
+    
+    /**
+     * Outcome code for one pair: 0 draw, 1 first wins, 2 second wins
+     */
+    private int code(int a, int b) {
+        int distance = a - b;
+        distance += size & (distance >> 31);          // floorMod without a branch
+        int nonZero = (-distance) >>> 31;              // 1 if distance > 0
+        int secondWins = (half - distance) >>> 31;     // 1 if distance > half
+        return nonZero + secondWins;
+    }
+    
+    private Counts count(byte[] first, byte[] second, byte[] results, int from, int to) {
+        long firstWins = 0;
+        long secondWins = 0;
+        if (results == null) {
+            for (int i = from; i < to; i++) {
+                int code = code(first[i], second[i]);
+                firstWins += code & 1;
+                secondWins += code >>> 1;
+            }
+        } else {
+            for (int i = from; i < to; i++) {
+                int code = code(first[i], second[i]);
+                results[i] = (byte) code;
+                firstWins += code & 1;
+                secondWins += code >>> 1;
+            }
+        }
+        return new Counts(firstWins, secondWins, (to - from) - firstWins - secondWins);
+    }
+    
+    private static void checkLengths(int expected, int actual) {
+        if (expected != actual) {
+            throw new IllegalArgumentException("Gesture streams differ in length: " + expected + " vs " + actual);
+        }
+    }
+    
+    /**
+     * Pack gestures into an ordinal stream
+     * @param gestures Gestures to encode
+     * @return One byte per gesture
+     */
+    public static byte[] encode(Gesture... gestures) {
+        byte[] encoded = new byte[gestures.length];
+        for (int i = 0; i < gestures.length; i++) {
+            encoded[i] = (byte) gestures[i].ordinal();
+        }
+        return encoded;
+    }
+    
+    /**
+     * Splits a range in halves until it is small enough to count directly
+     */
+    private class CountTask extends RecursiveTask<Counts> {
+        private static final long serialVersionUID = 1L;
+        
+        private final byte[] first;
+        private final byte[] second;
+        private final byte[] results;
+        private final int from;
+        private final int to;
+        private final int chunk;
+        
+        CountTask(byte[] first, byte[] second, byte[] results, int from, int to, int chunk) {
+            this.first = first;
+            this.second = second;
+            this.results = results;
+            this.from = from;
+            this.to = to;
+            this.chunk = chunk;
+        }
+        
+        @Override
+        protected Counts compute() {
+            if (to - from <= chunk) {
+                return count(first, second, results, from, to);
+            }
+            int middle = (from + to) >>> 1;
+            CountTask left = new CountTask(first, second, results, from, middle, chunk);
+            left.fork();
+            Counts right = new CountTask(first, second, results, middle, to, chunk).compute();
+            return left.join().plus(right);
+        }
+    }
+    
+    /**
+     * Win/loss/draw totals of a batch
+     */
+    public static final class Counts {
+        private final long firstWins;
+        private final long secondWins;
+        private final long draws;
+        
+        public Counts(long firstWins, long secondWins, long draws) {
+            this.firstWins = firstWins;
+            this.secondWins = secondWins;
+            this.draws = draws;
+        }
+        
+        public long getFirstWins() {
+            return firstWins;
+        }
+        
+        public long getSecondWins() {
+            return secondWins;
+        }
+        
+        public long getDraws() {
+            return draws;
+        }
+        
+        public long getTotal() {
+            return firstWins + secondWins + draws;
+        }
+        
+        public Counts plus(Counts other) {
+            return new Counts(firstWins + other.firstWins, secondWins + other.secondWins,
+                              draws + other.draws);
+        }
+        
+        @Override
+        public String toString() {
+            return "first wins " + firstWins + ", second wins " + secondWins + ", draws " + draws;
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package game;
+
+/**
+ * Result of one free-for-all round, as built by FreeForAllResolver.
+ * Points are stored per gesture; a player's points are those of the gesture it threw.
+ * Instances are immutable and may be handed to listeners on other threads.
+ */
+public final class FreeForAllOutcome {
+    private final byte[] gestures;
+    private final int[] counts;
+    private final int[] points;
+    private final int forfeits;
+    private final int scoringPlayers;
+    
+    FreeForAllOutcome(byte[] gestures, int[] counts, int[] points, int forfeits, int scoringPlayers) {
+        this.gestures = gestures;
+        this.counts = counts;
+        this.points = points;
+        this.forfeits = forfeits;
+        this.scoringPlayers = scoringPlayers;
+    }
+    
+    public int getPlayerCount() {
+        return gestures.length;
+    }
+    
+    /**
+     * Get the gesture a player threw
+     * @param playerIndex Zero-based player index
+     * @return The gesture ordinal, or FreeForAllResolver.NONE for a forfeit
+     */
+    public int getGesture(int playerIndex) {
+        return gestures[playerIndex];
+    }
+    
+    /**
+     * Get the points a player scored this round
+     * @param playerIndex Zero-based player index
+     * @return Points, 0 for a forfeit
+     */
+    public int getPoints(int playerIndex) {
+        int gesture = gestures[playerIndex];
+        return gesture == FreeForAllResolver.NONE ? 0 : points[gesture];
+    }
+    
+    /**
+     * Get how many players threw a gesture
+     * @param gesture Gesture ordinal
+     * @return Occupancy count
+     */
+    public int getCount(int gesture) {
+        return counts[gesture];
+    }
+    
+    /**
+     * Get the points scored by each player that threw a gesture
+     * @param gesture Gesture ordinal
+     * @return Points per player
+     */
+    public int getGesturePoints(int gesture) {
+        return points[gesture];
+    }
+    
+    public int getForfeits() {
+        return forfeits;
+    }
+    
+    /**
+     * Get how many players scored at least one point
+     * @return Number of scoring players, 0 if the round was a draw
+     */
+    public int getScoringPlayers() {
+        return scoringPlayers;
+    }
+    
+    public boolean isDraw() {
+        return scoringPlayers == 0;
+    }
+    
+    @Override
+    public String toString() {
+        StringBuilder text = new StringBuilder();
+        for (int g = 0; g < counts.length; g++) {
+            if (g > 0) {
+                text.append(", ");
+            }
+            text.append(counts[g]).append(" x ").append(g).append(" -> ").append(points[g]);
+        }
+        return text.append(", forfeits ").append(forfeits).toString();
+    }
+}
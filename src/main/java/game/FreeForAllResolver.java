@@ -0,0 +1,109 @@
+package game;
+
+/**
+ * Resolves a round in which any number of players throw at once.
+ * Players are never compared pairwise: one pass counts how many players threw each
+ * gesture, the points of every gesture are then derived from those occupancy counts
+ * through the rule table, and each player simply receives the points of its gesture.
+ * A round therefore costs O(N + n^2) for N players and n gestures instead of O(N^2).
+ * Gestures are passed as ordinals, one byte per player, with NONE for a forfeit.
+ */
+public class FreeForAllResolver {
+    /** Gesture byte of a player that did not throw */
+    public static final byte NONE = -1;
+    
+    /**
+     * How players score in a round
+     */
+    public enum Scoring {
+        /**
+         * One point for every player whose gesture beats all other gestures present.
+         * Forfeits count as beaten, so a lone gesture against forfeits scores as well.
+         */
+        BEATS_ALL_PRESENT,
+        /** One point per opponent whose gesture is beaten, forfeits included */
+        POINTS_PER_BEATEN
+    }
+    
+    private final GestureRules rules;
+    private final Scoring scoring;
+    
+    public FreeForAllResolver(Scoring scoring) {
+        this(GestureRules.CLASSIC, scoring);
+    }
+    
+    public FreeForAllResolver(GestureRules rules, Scoring scoring) {
+        this.rules = rules;
+        this.scoring = scoring;
+    }
+    
+    public GestureRules getRules() {
+        return rules;
+    }
+    
+    public Scoring getScoring() {
+        return scoring;
+    }
+    
+    /**
+     * Resolve one round
+     * @param gestures Ordinal thrown by each player, or NONE for a forfeit
+     * @param playerCount Number of leading entries of gestures to resolve
+     * @return The round outcome
+     */
+    public FreeForAllOutcome resolve(byte[] gestures, int playerCount) {
+        int n = rules.size();
+        int[] counts = new int[n];
+        int forfeits = 0;
+        for (int i = 0; i < playerCount; i++) {
+            int gesture = gestures[i];
+            if (gesture == NONE) {
+                forfeits++;
+            } else {
+                counts[gesture]++;
+            }
+        }
+        
+        int[] points = new int[n];
+        int scoringPlayers = 0;
+        for (int g = 0; g < n; g++) {
+            if (counts[g] == 0) {
+                continue;
+            }
+            points[g] = scoring == Scoring.BEATS_ALL_PRESENT
+                ? beatsAllPresent(g, counts, forfeits)
+                : beatenOpponents(g, counts, forfeits);
+            if (points[g] > 0) {
+                scoringPlayers += counts[g];
+            }
+        }
+        
+        byte[] thrown = new byte[playerCount];
+        System.arraycopy(gestures, 0, thrown, 0, playerCount);
+        return new FreeForAllOutcome(thrown, counts, points, forfeits, scoringPlayers);
+    }
+    
+    private int beatsAllPresent(int gesture, int[] counts, int forfeits) {
+        boolean beatsSomeone = forfeits > 0;
+        for (int other = 0; other < counts.length; other++) {
+            if (other == gesture || counts[other] == 0) {
+                continue;
+            }
+            if (!rules.beats(gesture, other)) {
+                return 0;
+            }
+            beatsSomeone = true;
+        }
+        return beatsSomeone ? 1 : 0;
+    }
+    
+    private int beatenOpponents(int gesture, int[] counts, int forfeits) {
+        int beaten = forfeits;
+        for (int other = 0; other < counts.length; other++) {
+            if (rules.beats(gesture, other)) {
+                beaten += counts[other];
+            }
+        }
+        return beaten;
+    }
+}
@@ -0,0 +1,20 @@
+package game;
+
+/**
+ * Source of time for countdowns.
+ * The wall clock is used in the real game; simulations and tests inject a VirtualClock
+ * so timeouts can be driven faster than real time and deterministically.
+ */
+public interface GameClock {
+    
+    /**
+     * Wall clock backed by System.currentTimeMillis()
+     */
+    GameClock SYSTEM = System::currentTimeMillis;
+    
+    /**
+     * Get the current time
+     * @return Current time in milliseconds
+     */
+    long currentTimeMillis();
+}
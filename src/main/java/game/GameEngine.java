@@ -3,8 +3,10 @@ package game;
 import player.Player;
 import player.HumanPlayer;
 import player.ComputerPlayer;
+import util.GameConfig;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
 
 /**
  * Main game engine that manages game flow and logic
@@ -14,9 +16,65 @@ public class GameEngine {
     private Player player1;
     private Player player2;
     private List<GameEngineListener> listeners;
+    private final GameClock clock;
+    private final long countdownDuration;
+    private final TimingWheel.Timeout countdownTimeout;
+    private TimingWheel expiryScheduler;
+    // Published state: see publishSnapshot()
+    private volatile long packedSnapshot;
+    private volatile GameStateSnapshot snapshot;
+    private volatile int snapshotVersion;
+    private GameState publishedState;
+    private ScoringRules scoringRules;
+    private RoundOutcome[] outcomes;
+    private int outcomeStride;
+    private String outcomePlayer1Name;
+    private String outcomePlayer2Name;
+    private Player[] freeForAllPlayers;
+    private FreeForAllResolver freeForAllResolver;
+    private byte[] freeForAllGestures;
+    private long[] freeForAllScores;
     
     public GameEngine() {
+        this(GameClock.SYSTEM, GameConfig.getDefault().getCountdownDuration());
+    }
+    
+    /**
+     * Create an engine with an explicit time source
+     * @param clock Clock used for round countdowns
+     * @param countdownDuration Countdown duration in milliseconds
+     */
+    public GameEngine(GameClock clock, long countdownDuration) {
         this.listeners = new ArrayList<>();
+        this.clock = clock;
+        this.countdownDuration = countdownDuration;
+        this.scoringRules = ScoringRules.getDefault();
+        this.countdownTimeout = new TimingWheel.Timeout(this::checkTimeout);
+    }
+    
+    /**
+     * Have countdown expiries end the round at the deadline without waiting for input.
+     * The wheel must use the same clock as this engine, and whoever advances it must
+     * be the thread that drives this engine.
+     * @param expiryScheduler Wheel to schedule countdown deadlines on, or null to disable
+     */
+    public void setExpiryScheduler(TimingWheel expiryScheduler) {
+        if (this.expiryScheduler != null) {
+            this.expiryScheduler.cancel(countdownTimeout);
+        }
+        this.expiryScheduler = expiryScheduler;
+    }
+    
+    /**
+     * Set the scoring rules for games initialized from now on
+     * @param scoringRules Compiled rules; ScoringRules.getDefault() unless changed
+     */
+    public void setScoringRules(ScoringRules scoringRules) {
+        this.scoringRules = Objects.requireNonNull(scoringRules);
+    }
+    
+    public ScoringRules getScoringRules() {
+        return scoringRules;
     }
     
     /**
@@ -25,11 +83,12 @@ public class GameEngine {
      * @param maxRounds Maximum number of rounds
      * @param player1Name Name of player 1
      * @param player2Name Name of player 2 (or computer)
-     * @param computerDifficulty Difficulty level for computer player (0-2)
+     * @param computerDifficulty Difficulty level for computer player (0-4)
      */
     public void initializeGame(GameMode mode, int maxRounds, String player1Name, 
                              String player2Name, int computerDifficulty) {
-        gameState = new GameState(mode, maxRounds);
+        gameState = createGameState(mode, maxRounds, scoringRules);
+        freeForAllPlayers = null;
         
         if (mode == GameMode.PLAYER_VS_COMPUTER) {
             // PvC mode: Player 1 uses R,P,S keys
@@ -40,6 +99,73 @@ public class GameEngine {
             player1 = new HumanPlayer(player1Name, 'a', 's', 'd');
             player2 = new HumanPlayer(player2Name, 'j', 'k', 'l');
         }
+        prepareOutcomes();
+        publishSnapshot();
+        
+        notifyGameInitialized();
+    }
+    
+    /**
+     * Initialize a new game with already constructed players.
+     * Used by headless simulations that bring their own Player implementations.
+     * @param mode The game mode (PvP or PvC)
+     * @param maxRounds Maximum number of rounds
+     * @param player1 Player 1
+     * @param player2 Player 2
+     */
+    public void initializeGame(GameMode mode, int maxRounds, Player player1, Player player2) {
+        gameState = createGameState(mode, maxRounds, scoringRules);
+        freeForAllPlayers = null;
+        this.player1 = player1;
+        this.player2 = player2;
+        player1.resetForNewGame();
+        player2.resetForNewGame();
+        prepareOutcomes();
+        publishSnapshot();
+        
+        notifyGameInitialized();
+    }
+    
+    /**
+     * Resume a game recovered from a packed state under this engine's scoring rules.
+     * The packed form holds no scores; they are rebuilt from the counters, which is
+     * exact for rules without gesture weights or draw points. Use
+     * resumeGame(GameStateSnapshot, ...) to resume a game with its recorded scores.
+     * A round that was in progress when the state was captured is abandoned.
+     * @param packedState The recovered state (see PackedGameState)
+     * @param player1 Player 1
+     * @param player2 Player 2
+     */
+    public void resumeGame(long packedState, Player player1, Player player2) {
+        gameState = createGameState(PackedGameState.getMode(packedState),
+                                    PackedGameState.getMaxRounds(packedState), scoringRules);
+        PackedGameState.restore(gameState, PackedGameState.setRoundInProgress(packedState, false));
+        resume(player1, player2);
+    }
+    
+    /**
+     * Resume a game recovered from a snapshot, for example one rebuilt by GameEventLog,
+     * under the snapshot's scoring rules and with its scores.
+     * A round that was in progress when the snapshot was taken is abandoned.
+     * @param snapshot The recovered state
+     * @param player1 Player 1
+     * @param player2 Player 2
+     */
+    public void resumeGame(GameStateSnapshot snapshot, Player player1, Player player2) {
+        gameState = createGameState(snapshot.getMode(), snapshot.getMaxRounds(), snapshot.getScoringRules());
+        snapshot.restore(gameState);
+        gameState.setRoundInProgress(false);
+        resume(player1, player2);
+    }
+    
+    private void resume(Player player1, Player player2) {
+        freeForAllPlayers = null;
+        this.player1 = player1;
+        this.player2 = player2;
+        player1.resetForNewRound();
+        player2.resetForNewRound();
+        prepareOutcomes();
+        publishSnapshot();
         
         notifyGameInitialized();
     }
@@ -59,6 +185,11 @@ public class GameEngine {
         gameState.nextRound();
         gameState.startCountdown();
         gameState.setGameInProgress(true);
+        if (expiryScheduler != null) {
+            expiryScheduler.schedule(countdownTimeout, gameState.getCountdownDeadline());
+        }
+        
+        publishSnapshot();
         
         notifyRoundStarted();
         
@@ -69,6 +200,241 @@ public class GameEngine {
         }
     }
     
+    /**
+     * Play a complete round without keyboard input or countdown.
+     * Every player that has not submitted a gesture is asked through makeChoice();
+     * a null choice counts as a forfeit, just like an expired countdown.
+     * @return true if a round was played, false if the game is already finished
+     */
+    public boolean playRound() {
+        if (gameState.isGameFinished()) {
+            return false;
+        }
+        
+        player1.resetForNewRound();
+        player2.resetForNewRound();
+        
+        gameState.nextRound();
+        gameState.setRoundInProgress(true);
+        gameState.setGameInProgress(true);
+        
+        publishSnapshot();
+        
+        notifyRoundStarted();
+        
+        submitChoice(1, player1);
+        submitChoice(2, player2);
+        
+        endRound();
+        return true;
+    }
+    
+    /**
+     * Play a complete round with the given gestures instead of asking the players,
+     * for example to explore a what-if branch from a fork().
+     * A null gesture counts as a forfeit.
+     * @param gesture1 Player 1's gesture
+     * @param gesture2 Player 2's gesture
+     * @return true if a round was played, false if the game is already finished
+     */
+    public boolean playRound(Gesture gesture1, Gesture gesture2) {
+        if (gameState.isGameFinished()) {
+            return false;
+        }
+        
+        player1.resetForNewRound();
+        player2.resetForNewRound();
+        
+        gameState.nextRound();
+        gameState.setRoundInProgress(true);
+        gameState.setGameInProgress(true);
+        
+        publishSnapshot();
+        
+        notifyRoundStarted();
+        
+        if (gesture1 != null && player1.setGesture(gesture1)) {
+            notifyPlayerGestureSubmitted(1, gesture1);
+        }
+        if (gesture2 != null && player2.setGesture(gesture2)) {
+            notifyPlayerGestureSubmitted(2, gesture2);
+        }
+        
+        endRound();
+        return true;
+    }
+    
+    /**
+     * Fork this engine for what-if analysis.
+     * The fork gets a copy of the game state and forks of both players (see Player.fork());
+     * the outcome table and the opponent histories of computer players are immutable and
+     * shared, so a fork costs a few small objects however long the game has run.
+     * Listeners and the expiry scheduler are not carried over.
+     * @return An independent engine positioned at the same point of the same game
+     * @throws IllegalStateException If no two-player game has been initialized
+     */
+    public GameEngine fork() {
+        if (gameState == null || freeForAllPlayers != null) {
+            throw new IllegalStateException("Only an initialized two-player game can be forked");
+        }
+        GameEngine fork = new GameEngine(clock, countdownDuration);
+        fork.gameState = gameState.copy();
+        fork.player1 = player1.fork();
+        fork.player2 = player2.fork();
+        fork.outcomes = outcomes;
+        fork.outcomeStride = outcomeStride;
+        fork.outcomePlayer1Name = outcomePlayer1Name;
+        fork.outcomePlayer2Name = outcomePlayer2Name;
+        fork.publishSnapshot();
+        return fork;
+    }
+    
+    /**
+     * Play rounds headlessly until the game is finished
+     * @return 1 if player 1 wins, 2 if player 2 wins, 0 if draw
+     */
+    public int playGame() {
+        while (playRound()) {
+            // Rounds are resolved inside playRound()
+        }
+        return gameState.getGameWinner();
+    }
+    
+    /**
+     * Initialize a free-for-all game in which every player throws each round.
+     * Free-for-all games are played headlessly through playFreeForAllRound();
+     * player numbers in listener callbacks are 1-based positions in the list.
+     * @param maxRounds Number of rounds to play
+     * @param players The players, at least two
+     * @param resolver Scoring rule for each round
+     */
+    public void initializeFreeForAll(int maxRounds, List<? extends Player> players,
+                                     FreeForAllResolver resolver) {
+        if (players.size() < 2) {
+            throw new IllegalArgumentException("A free-for-all needs at least two players");
+        }
+        if (resolver.getRules().size() != Gesture.values().length) {
+            throw new IllegalArgumentException("Resolver rules must match the Gesture set");
+        }
+        gameState = createGameState(GameMode.FREE_FOR_ALL, maxRounds, scoringRules);
+        freeForAllPlayers = players.toArray(new Player[0]);
+        freeForAllResolver = resolver;
+        freeForAllGestures = new byte[freeForAllPlayers.length];
+        freeForAllScores = new long[freeForAllPlayers.length];
+        player1 = freeForAllPlayers[0];
+        player2 = freeForAllPlayers[1];
+        for (Player player : freeForAllPlayers) {
+            player.resetForNewGame();
+        }
+        publishSnapshot();
+        
+        notifyGameInitialized();
+    }
+    
+    /**
+     * Play one free-for-all round: ask every player for a gesture, then resolve all
+     * of them at once from per-gesture counts. A null choice counts as a forfeit.
+     * Rounds in which nobody scores are counted as draws.
+     * @return true if a round was played, false if the game is already finished
+     */
+    public boolean playFreeForAllRound() {
+        if (freeForAllPlayers == null) {
+            throw new IllegalStateException("No free-for-all game has been initialized");
+        }
+        if (gameState.isGameFinished()) {
+            return false;
+        }
+        
+        gameState.nextRound();
+        gameState.setRoundInProgress(true);
+        gameState.setGameInProgress(true);
+        
+        publishSnapshot();
+        
+        notifyRoundStarted();
+        
+        for (int i = 0; i < freeForAllPlayers.length; i++) {
+            Player player = freeForAllPlayers[i];
+            player.resetForNewRound();
+            submitChoice(i + 1, player);
+            Gesture gesture = player.getCurrentGesture();
+            freeForAllGestures[i] = gesture == null ? FreeForAllResolver.NONE : (byte) gesture.ordinal();
+        }
+        
+        FreeForAllOutcome outcome = freeForAllResolver.resolve(freeForAllGestures, freeForAllGestures.length);
+        for (int i = 0; i < freeForAllScores.length; i++) {
+            freeForAllScores[i] += outcome.getPoints(i);
+        }
+        
+        gameState.setRoundInProgress(false);
+        if (outcome.isDraw()) {
+            gameState.incrementDraws();
+        }
+        publishSnapshot();
+        notifyFreeForAllOutcome(outcome);
+        
+        if (gameState.isGameFinished()) {
+            gameState.setGameInProgress(false);
+            publishSnapshot();
+            notifyGameEnded(getFreeForAllLeader());
+        }
+        return true;
+    }
+    
+    /**
+     * Play free-for-all rounds until the game is finished
+     * @return 1-based number of the player with the highest score, 0 if tied
+     */
+    public int playFreeForAllGame() {
+        while (playFreeForAllRound()) {
+            // Rounds are resolved inside playFreeForAllRound()
+        }
+        return getFreeForAllLeader();
+    }
+    
+    /**
+     * Get the player currently leading the free-for-all
+     * @return 1-based player number, or 0 if the top score is shared
+     */
+    public int getFreeForAllLeader() {
+        int leader = 0;
+        long best = Long.MIN_VALUE;
+        boolean tied = false;
+        for (int i = 0; i < freeForAllScores.length; i++) {
+            if (freeForAllScores[i] > best) {
+                best = freeForAllScores[i];
+                leader = i + 1;
+                tied = false;
+            } else if (freeForAllScores[i] == best) {
+                tied = true;
+            }
+        }
+        return tied ? 0 : leader;
+    }
+    
+    /**
+     * Get a player's accumulated free-for-all score
+     * @param playerNumber 1-based player number
+     * @return Total points
+     */
+    public long getFreeForAllScore(int playerNumber) {
+        return freeForAllScores[playerNumber - 1];
+    }
+    
+    public int getFreeForAllPlayerCount() {
+        return freeForAllPlayers == null ? 0 : freeForAllPlayers.length;
+    }
+    
+    /**
+     * Ask a player for its choice and submit it if one was made
+     */
+    private void submitChoice(int playerNumber, Player player) {
+        Gesture choice = player.makeChoice();
+        if (choice != null && player.setGesture(choice)) {
+            notifyPlayerGestureSubmitted(playerNumber, choice);
+        }
+    }
+    
     /**
      * Process a key press during the game
      * @param key The key that was pressed
@@ -121,47 +487,25 @@ public class GameEngine {
      */
     private void endRound() {
         gameState.setRoundInProgress(false);
+        if (expiryScheduler != null) {
+            expiryScheduler.cancel(countdownTimeout);
+        }
         
         Gesture gesture1 = player1.getCurrentGesture();
         Gesture gesture2 = player2.getCurrentGesture();
         
-        // Handle case where players didn't submit in time
-        if (gesture1 == null && gesture2 == null) {
-            // Both players forfeit - count as draw
-            gameState.incrementDraws();
-            notifyRoundResult(gesture1, gesture2, 0, "Both players forfeited!");
-        } else if (gesture1 == null) {
-            // Player 1 forfeited - Player 2 wins
-            gameState.incrementPlayer2Wins();
-            notifyRoundResult(gesture1, gesture2, 2, player1.getName() + " forfeited!");
-        } else if (gesture2 == null) {
-            // Player 2 forfeited - Player 1 wins
-            gameState.incrementPlayer1Wins();
-            notifyRoundResult(gesture1, gesture2, 1, player2.getName() + " forfeited!");
-        } else {
-            // Both players submitted - normal game logic
-            int winner = determineRoundWinner(gesture1, gesture2);
-            
-            if (winner == 1) {
-                gameState.incrementPlayer1Wins();
-                notifyRoundResult(gesture1, gesture2, winner, 
-                    gesture1.getDisplayName() + " beats " + gesture2.getDisplayName());
-            } else if (winner == 2) {
-                gameState.incrementPlayer2Wins();
-                notifyRoundResult(gesture1, gesture2, winner, 
-                    gesture2.getDisplayName() + " beats " + gesture1.getDisplayName());
-            } else {
-                gameState.incrementDraws();
-                notifyRoundResult(gesture1, gesture2, winner, "It's a tie!");
-            }
-            
-            // Update computer AI with opponent's gesture
-            if (player1 instanceof ComputerPlayer) {
-                ((ComputerPlayer) player1).addOpponentGestureToHistory(gesture2);
-            }
-            if (player2 instanceof ComputerPlayer) {
-                ((ComputerPlayer) player2).addOpponentGestureToHistory(gesture1);
-            }
+        // Forfeits (null gestures) and normal rounds alike map to a prebuilt outcome
+        // and to prebuilt counter and score increments of the compiled scoring rules
+        int cell = outcomeIndex(gesture1) * outcomeStride + outcomeIndex(gesture2);
+        RoundOutcome outcome = outcomes[cell];
+        gameState.recordRound(cell);
+        publishSnapshot();
+        notifyRoundOutcome(outcome);
+        
+        if (gesture1 != null && gesture2 != null) {
+            // Let adaptive players (computer AI, scripted copycats) see the opponent's gesture
+            player1.observeOpponentGesture(gesture2);
+            player2.observeOpponentGesture(gesture1);
         }
         
         // Check if game is finished
@@ -170,20 +514,70 @@ public class GameEngine {
         }
     }
     
+    private GameState createGameState(GameMode mode, int maxRounds, ScoringRules rules) {
+        // Free-for-all games never go into sudden death
+        int limit = mode == GameMode.FREE_FOR_ALL ? PackedGameState.MAX_ROUNDS
+                                                  : PackedGameState.MAX_ROUNDS - rules.getSuddenDeathRounds();
+        if (maxRounds < 1 || maxRounds > limit) {
+            throw new IllegalArgumentException("maxRounds must be between 1 and " + limit);
+        }
+        return new GameState(mode, maxRounds, clock, countdownDuration, rules);
+    }
+    
     /**
-     * Determine the winner of a round
-     * @param gesture1 Player 1's gesture
-     * @param gesture2 Player 2's gesture
-     * @return 1 if player 1 wins, 2 if player 2 wins, 0 if draw
+     * Publish the current state for readers on other threads, without locking.
+     * Under rules whose scores follow from the win counters (see ScoringRules) a
+     * transition is a single volatile store of the packed state, so rounds stay
+     * allocation-free, and getSnapshot() rebuilds the scores on the reader's side.
+     * Under other rules each transition also publishes a GameStateSnapshot carrying
+     * its scores. A new game publishes both inside an odd snapshotVersion, so that
+     * readers never pair the packed state of one game with the rules of another.
      */
-    private int determineRoundWinner(Gesture gesture1, Gesture gesture2) {
-        if (gesture1 == gesture2) {
-            return 0; // Draw
-        } else if (gesture1.beats(gesture2)) {
-            return 1; // Player 1 wins
-        } else {
-            return 2; // Player 2 wins
+    private void publishSnapshot() {
+        boolean newGame = publishedState != gameState;
+        if (newGame) {
+            snapshotVersion++;
+        }
+        if (newGame || !gameState.getScoringRules().hasCounterScores()) {
+            snapshot = GameStateSnapshot.of(gameState);
         }
+        packedSnapshot = PackedGameState.of(gameState);
+        if (newGame) {
+            snapshotVersion++;
+            publishedState = gameState;
+        }
+    }
+    
+    private static int outcomeIndex(Gesture gesture) {
+        return gesture == null ? 0 : gesture.ordinal() + 1;
+    }
+    
+    /**
+     * Build the outcome for every gesture combination, including forfeits.
+     * The table only depends on the player names, so it is kept across games
+     * as long as the names stay the same.
+     */
+    private void prepareOutcomes() {
+        String player1Name = player1.getName();
+        String player2Name = player2.getName();
+        if (outcomes != null && Objects.equals(player1Name, outcomePlayer1Name)
+                && Objects.equals(player2Name, outcomePlayer2Name)) {
+            return;
+        }
+        
+        Gesture[] gestures = Gesture.values();
+        outcomeStride = gestures.length + 1;
+        outcomes = new RoundOutcome[outcomeStride * outcomeStride];
+        for (int i = 0; i < outcomeStride; i++) {
+            for (int j = 0; j < outcomeStride; j++) {
+                Gesture gesture1 = i == 0 ? null : gestures[i - 1];
+                Gesture gesture2 = j == 0 ? null : gestures[j - 1];
+                outcomes[i * outcomeStride + j] =
+                    RoundOutcome.resolve(gesture1, gesture2, player1Name, player2Name);
+            }
+        }
+        outcomePlayer1Name = player1Name;
+        outcomePlayer2Name = player2Name;
     }
     
     /**
@@ -191,10 +585,23 @@ public class GameEngine {
      */
     private void endGame() {
         gameState.setGameInProgress(false);
+        publishSnapshot();
         int gameWinner = gameState.getGameWinner();
         notifyGameEnded(gameWinner);
     }
     
+    /**
+     * End the current round if its countdown has expired
+     * @return true if the round was ended by the timeout
+     */
+    public boolean checkTimeout() {
+        if (gameState.isRoundInProgress() && gameState.isCountdownExpired()) {
+            endRound();
+            return true;
+        }
+        return false;
+    }
+    
     /**
      * Force end the current round (for timeout handling)
      */
@@ -205,10 +612,47 @@ public class GameEngine {
     }
     
     // Getters
+    public GameClock getClock() {
+        return clock;
+    }
+    
+    /**
+     * Get the live game state. Only safe on the thread driving the engine;
+     * other threads should use getSnapshot().
+     * @return The mutable game state
+     */
     public GameState getGameState() {
         return gameState;
     }
     
+    /**
+     * Get a consistent view of the state as of the last transition, from any thread
+     * @return Immutable snapshot, or null if no game has been initialized
+     */
+    public GameStateSnapshot getSnapshot() {
+        while (true) {
+            int version = snapshotVersion;
+            GameStateSnapshot current = snapshot;
+            if (current == null || !current.getScoringRules().hasCounterScores()) {
+                return current;
+            }
+            long packed = packedSnapshot;
+            if ((version & 1) == 0 && version == snapshotVersion) {
+                return packed == current.getPackedState()
+                    ? current : GameStateSnapshot.withCounterScores(packed, current.getScoringRules());
+            }
+            Thread.onSpinWait();
+        }
+    }
+    
+    /**
+     * Get the packed counters and flags of the latest snapshot
+     * @return The packed state (see PackedGameState), or 0 if no game has been initialized
+     */
+    public long getPackedSnapshot() {
+        return packedSnapshot;
+    }
+    
     public Player getPlayer1() {
         return player1;
     }
@@ -227,33 +671,40 @@ public class GameEngine {
     }
     
     // Notification methods
+    // Indexed loops keep the per-round path free of iterator allocations
     private void notifyGameInitialized() {
-        for (GameEngineListener listener : listeners) {
-            listener.onGameInitialized(gameState);
+        for (int i = 0; i < listeners.size(); i++) {
+            listeners.get(i).onGameInitialized(gameState);
         }
     }
     
     private void notifyRoundStarted() {
-        for (GameEngineListener listener : listeners) {
-            listener.onRoundStarted(gameState.getCurrentRound());
+        for (int i = 0; i < listeners.size(); i++) {
+            listeners.get(i).onRoundStarted(gameState.getCurrentRound());
         }
     }
     
     private void notifyPlayerGestureSubmitted(int playerNumber, Gesture gesture) {
-        for (GameEngineListener listener : listeners) {
-            listener.onPlayerGestureSubmitted(playerNumber, gesture);
+        for (int i = 0; i < listeners.size(); i++) {
+            listeners.get(i).onPlayerGestureSubmitted(playerNumber, gesture);
+        }
+    }
+    
+    private void notifyRoundOutcome(RoundOutcome outcome) {
+        for (int i = 0; i < listeners.size(); i++) {
+            listeners.get(i).onRoundOutcome(outcome);
         }
     }
     
-    private void notifyRoundResult(Gesture gesture1, Gesture gesture2, int winner, String message) {
-        for (GameEngineListener listener : listeners) {
-            listener.onRoundResult(gesture1, gesture2, winner, message);
+    private void notifyFreeForAllOutcome(FreeForAllOutcome outcome) {
+        for (int i = 0; i < listeners.size(); i++) {
+            listeners.get(i).onFreeForAllOutcome(outcome);
         }
     }
     
     private void notifyGameEnded(int winner) {
-        for (GameEngineListener listener : listeners) {
-            listener.onGameEnded(winner, gameState);
+        for (int i = 0; i < listeners.size(); i++) {
+            listeners.get(i).onGameEnded(winner, gameState);
         }
     }
     
@@ -265,6 +716,31 @@ public class GameEngine {
         void onRoundStarted(int roundNumber);
         void onPlayerGestureSubmitted(int playerNumber, Gesture gesture);
         void onRoundResult(Gesture gesture1, Gesture gesture2, int winner, String message);
+        
+        /**
+         * Structured round result. The default renders the message and forwards to
+         * onRoundResult; listeners that do not need text can override this instead
+         * to keep rounds free of string building.
+         * @param outcome The round outcome
+         */
+        default void onRoundOutcome(RoundOutcome outcome) {
+            onRoundResult(outcome.getGesture1(), outcome.getGesture2(),
+                          outcome.getWinner(), outcome.getMessage());
+        }
+        
+        /**
+         * Result of a free-for-all round. Ignored by default, since two-player
+         * listeners never see free-for-all games.
+         * @param outcome Gesture counts and points of the round
+         */
+        default void onFreeForAllOutcome(FreeForAllOutcome outcome) {
+        }
+        
+        /**
+         * Called when the game ends
+         * @param winner 1 or 2 in two-player games, the 1-based leader in free-for-all games, 0 if drawn
+         * @param gameState The final state
+         */
         void onGameEnded(int winner, GameState gameState);
     }
 }
@@ -0,0 +1,388 @@
+package game;
+
+import game.GameEngine.GameEngineListener;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * Append-only binary log of engine transitions, usable for crash recovery and audit.
+ * Register it as a listener: every transition is appended as one fixed-width record
+ * of RECORD_SIZE bytes, and every snapshotInterval round results a SNAPSHOT record
+ * holding the packed GameState and both scores is added. Rebuilding a state starts
+ * from the nearest snapshot and replays only the records after it, so a long match
+ * never has to be replayed from the start.
+ * Round results are replayed from their two gestures through the compiled tables of
+ * the game's ScoringRules, so weighted wins, draw points and handicaps are rebuilt
+ * exactly and a recovered game has the same scores and winner as the live one.
+ * <pre>
+ * offset  size  field
+ *      0     1  record type
+ *      1     1  arg1 (mode, player number or winner)
+ *      2     1  arg2 (gesture ordinal + 1, 0 for none)
+ *      3     1  arg3 (gesture ordinal + 1, 0 for none)
+ *      4     4  int value (max rounds or round number)
+ *      8     8  long value (packed state of SNAPSHOT records)
+ *     16     4  player 1 score of SNAPSHOT records
+ *     20     4  player 2 score of SNAPSHOT records
+ * </pre>
+ * Records are big-endian. A trailing partial record, as left by a crash mid-write, is ignored.
+ * Only two-player games are logged; free-for-all games are skipped entirely.
+ */
+public class GameEventLog implements GameEngineListener {
+    public static final int RECORD_SIZE = 24;
+    
+    // Record types
+    public static final byte INITIALIZE = 1;
+    public static final byte ROUND_STARTED = 2;
+    public static final byte GESTURE_SUBMITTED = 3;
+    public static final byte ROUND_RESULT = 4;
+    public static final byte GAME_ENDED = 5;
+    public static final byte SNAPSHOT = 6;
+    
+    private static final Gesture[] GESTURES = Gesture.values();
+    
+    private final int snapshotInterval;
+    private final OutputStream sink;
+    private ByteBuffer buffer;
+    private int[] snapshotIndexes = new int[16];
+    private int snapshotCount;
+    private ScoringRules scoringRules;
+    private final Replay current = new Replay();
+    private int resultsSinceSnapshot;
+    private boolean skipping;
+    
+    /**
+     * Create an in-memory log
+     * @param snapshotInterval Round results between snapshots
+     */
+    public GameEventLog(int snapshotInterval) {
+        this(snapshotInterval, null);
+    }
+    
+    /**
+     * Create a log that also writes every record to a sink, such as a file
+     * @param snapshotInterval Round results between snapshots
+     * @param sink Stream receiving each record as it is appended, or null
+     */
+    public GameEventLog(int snapshotInterval, OutputStream sink) {
+        if (snapshotInterval < 1) {
+            throw new IllegalArgumentException("snapshotInterval must be at least 1");
+        }
+        this.snapshotInterval = snapshotInterval;
+        this.sink = sink;
+        this.scoringRules = ScoringRules.getDefault();
+        this.buffer = ByteBuffer.allocate(RECORD_SIZE * 64);
+    }
+    
+    /**
+     * Read a log of games played under ScoringRules.getDefault()
+     * @param in Stream holding the records
+     * @param snapshotInterval Snapshot interval for records appended from now on
+     * @return The loaded log
+     * @throws IOException if the stream cannot be read
+     */
+    public static GameEventLog read(InputStream in, int snapshotInterval) throws IOException {
+        return read(in, snapshotInterval, ScoringRules.getDefault());
+    }
+    
+    /**
+     * Read a log previously written with writeTo() or through a sink
+     * @param in Stream holding the records
+     * @param snapshotInterval Snapshot interval for records appended from now on
+     * @param scoringRules Rules the logged games were played under, used to replay round results
+     * @return The loaded log
+     * @throws IOException if the stream cannot be read
+     */
+    public static GameEventLog read(InputStream in, int snapshotInterval,
+                                    ScoringRules scoringRules) throws IOException {
+        byte[] bytes = in.readAllBytes();
+        GameEventLog log = new GameEventLog(snapshotInterval);
+        log.scoringRules = scoringRules;
+        int records = bytes.length / RECORD_SIZE;
+        log.ensureCapacity(records * RECORD_SIZE);
+        log.buffer.put(bytes, 0, records * RECORD_SIZE);
+        
+        for (int i = 0; i < records; i++) {
+            byte type = log.buffer.get(i * RECORD_SIZE);
+            if (type == SNAPSHOT) {
+                log.addSnapshotIndex(i);
+                log.resultsSinceSnapshot = 0;
+            } else if (type == ROUND_RESULT) {
+                log.resultsSinceSnapshot++;
+            }
+        }
+        log.replay(records, log.current);
+        return log;
+    }
+    
+    // Listener callbacks: one record per transition
+    
+    @Override
+    public void onGameInitialized(GameState gameState) {
+        skipping = gameState.getMode() == GameMode.FREE_FOR_ALL;
+        if (skipping) {
+            return;
+        }
+        scoringRules = gameState.getScoringRules();
+        if (gameState.getCurrentRound() > 0) {
+            // A resumed game: anchor replay on its restored counters and scores
+            appendSnapshot(PackedGameState.of(gameState), gameState.getPlayer1Score(), gameState.getPlayer2Score());
+        } else {
+            append(INITIALIZE, gameState.getMode().ordinal(), 0, 0, gameState.getMaxRounds());
+        }
+    }
+    
+    @Override
+    public void onRoundStarted(int roundNumber) {
+        append(ROUND_STARTED, 0, 0, 0, roundNumber);
+    }
+    
+    @Override
+    public void onPlayerGestureSubmitted(int playerNumber, Gesture gesture) {
+        append(GESTURE_SUBMITTED, playerNumber, encode(gesture), 0, 0);
+    }
+    
+    @Override
+    public void onRoundResult(Gesture gesture1, Gesture gesture2, int winner, String message) {
+        append(ROUND_RESULT, winner, encode(gesture1), encode(gesture2), 0);
+        if (++resultsSinceSnapshot >= snapshotInterval) {
+            appendSnapshot(current.state, current.player1Score, current.player2Score);
+        }
+    }
+    
+    @Override
+    public void onRoundOutcome(RoundOutcome outcome) {
+        // Log the structured outcome without rendering its text
+        onRoundResult(outcome.getGesture1(), outcome.getGesture2(), outcome.getWinner(), null);
+    }
+    
+    @Override
+    public void onGameEnded(int winner, GameState gameState) {
+        append(GAME_ENDED, winner, 0, 0, 0);
+    }
+    
+    private void append(byte type, int arg1, int arg2, int arg3, int intValue) {
+        append(type, arg1, arg2, arg3, intValue, 0, 0, 0);
+    }
+    
+    private void appendSnapshot(long state, int player1Score, int player2Score) {
+        append(SNAPSHOT, 0, 0, 0, 0, state, player1Score, player2Score);
+    }
+    
+    private void append(byte type, int arg1, int arg2, int arg3, int intValue, long longValue,
+                        int player1Score, int player2Score) {
+        if (skipping) {
+            return;
+        }
+        ensureCapacity(buffer.position() + RECORD_SIZE);
+        int offset = buffer.position();
+        buffer.put(type).put((byte) arg1).put((byte) arg2).put((byte) arg3)
+              .putInt(intValue).putLong(longValue).putInt(player1Score).putInt(player2Score);
+        
+        int index = offset / RECORD_SIZE;
+        current.apply(buffer, offset, scoringRules);
+        if (type == SNAPSHOT) {
+            addSnapshotIndex(index);
+            resultsSinceSnapshot = 0;
+        }
+        
+        if (sink != null) {
+            try {
+                sink.write(buffer.array(), offset, RECORD_SIZE);
+            } catch (IOException e) {
+                throw new UncheckedIOException("Could not write event log record", e);
+            }
+        }
+    }
+    
+    /**
+     * Rebuild the packed state after the given number of records,
+     * replaying forward from the nearest snapshot at or before that point
+     * @param recordCount Number of leading records to take into account
+     * @return The packed state, or 0 if no game was initialized by then
+     */
+    public long stateAt(int recordCount) {
+        Replay replay = new Replay();
+        replay(recordCount, replay);
+        return replay.state;
+    }
+    
+    /**
+     * Rebuild the counters and scores after the given number of records
+     * @param recordCount Number of leading records to take into account
+     * @return The snapshot, or null if no game was initialized by then
+     */
+    public GameStateSnapshot snapshotAt(int recordCount) {
+        Replay replay = new Replay();
+        replay(recordCount, replay);
+        return replay.toSnapshot(scoringRules);
+    }
+    
+    private void replay(int recordCount, Replay replay) {
+        if (recordCount < 0 || recordCount > size()) {
+            throw new IndexOutOfBoundsException("recordCount " + recordCount + " outside 0.." + size());
+        }
+        // Latest snapshot strictly before recordCount
+        int position = Arrays.binarySearch(snapshotIndexes, 0, snapshotCount, recordCount);
+        int snapshot = (position >= 0 ? position : -position - 1) - 1;
+        
+        int start = 0;
+        if (snapshot >= 0) {
+            start = snapshotIndexes[snapshot];
+        } else {
+            // No snapshot yet: the game begins at the last INITIALIZE
+            for (int i = recordCount - 1; i >= 0; i--) {
+                if (buffer.get(i * RECORD_SIZE) == INITIALIZE) {
+                    start = i;
+                    break;
+                }
+            }
+        }
+        for (int i = start; i < recordCount; i++) {
+            replay.apply(buffer, i * RECORD_SIZE, scoringRules);
+        }
+    }
+    
+    /**
+     * Rebuild the current game state from the log, scores included
+     * @return The rebuilt state, or null if the log holds no game
+     */
+    public GameState rebuild() {
+        GameStateSnapshot snapshot = snapshotAt(size());
+        return snapshot == null ? null : snapshot.toGameState();
+    }
+    
+    /**
+     * Get the packed state as of the last appended record, maintained incrementally
+     * @return The packed state, or 0 if no game has been logged
+     */
+    public long getCurrentState() {
+        return current.state;
+    }
+    
+    /**
+     * Get the counters and scores as of the last appended record, for example to
+     * resume a recovered game with GameEngine.resumeGame(GameStateSnapshot, ...)
+     * @return The snapshot, or null if no game has been logged
+     */
+    public GameStateSnapshot getCurrentSnapshot() {
+        return current.toSnapshot(scoringRules);
+    }
+    
+    /**
+     * Get the number of records in the log
+     * @return Record count
+     */
+    public int size() {
+        return buffer.position() / RECORD_SIZE;
+    }
+    
+    public byte getRecordType(int index) {
+        return buffer.get(index * RECORD_SIZE);
+    }
+    
+    public int getSnapshotCount() {
+        return snapshotCount;
+    }
+    
+    /**
+     * Copy the raw records
+     * @return size() * RECORD_SIZE bytes
+     */
+    public byte[] toByteArray() {
+        return Arrays.copyOf(buffer.array(), buffer.position());
+    }
+    
+    public void writeTo(OutputStream out) throws IOException {
+        out.write(buffer.array(), 0, buffer.position());
+    }
+    
+    private static int encode(Gesture gesture) {
+        return gesture == null ? 0 : gesture.ordinal() + 1;
+    }
+    
+    /**
+     * Decode a gesture field of a record
+     * @param code Stored value, ordinal + 1
+     * @return The gesture, or null for none
+     */
+    public static Gesture decodeGesture(int code) {
+        return code == 0 ? null : GESTURES[code - 1];
+    }
+    
+    private void addSnapshotIndex(int index) {
+        if (snapshotCount == snapshotIndexes.length) {
+            snapshotIndexes = Arrays.copyOf(snapshotIndexes, snapshotCount * 2);
+        }
+        snapshotIndexes[snapshotCount++] = index;
+    }
+    
+    private void ensureCapacity(int bytes) {
+        if (bytes > buffer.capacity()) {
+            ByteBuffer grown = ByteBuffer.allocate(Math.max(bytes, buffer.capacity() * 2));
+            buffer.flip();
+            grown.put(buffer);
+            buffer = grown;
+        }
+    }
+    
+    /**
+     * Packed state and scores folded from a run of records
+     */
+    private static final class Replay {
+        long state;
+        int player1Score;
+        int player2Score;
+        
+        /**
+         * Fold one record into the state
+         */
+        void apply(ByteBuffer records, int offset, ScoringRules rules) {
+            switch (records.get(offset)) {
+                case INITIALIZE:
+                    state = PackedGameState.create(GameMode.values()[records.get(offset + 1)],
+                                                   records.getInt(offset + 4));
+                    player1Score = rules.getPlayer1Handicap();
+                    player2Score = rules.getPlayer2Handicap();
+                    break;
+                case ROUND_STARTED:
+                    state = PackedGameState.nextRound(state);
+                    state = PackedGameState.setGameInProgress(state, true);
+                    state = PackedGameState.setRoundInProgress(state, true);
+                    break;
+                case ROUND_RESULT:
+                    // Gesture codes are the outcome indexes of the compiled tables
+                    int cell = records.get(offset + 2) * ScoringRules.STRIDE + records.get(offset + 3);
+                    if (rules.getPlayer1Wins(cell) != 0) {
+                        state = PackedGameState.incrementPlayer1Wins(state);
+                    } else if (rules.getPlayer2Wins(cell) != 0) {
+                        state = PackedGameState.incrementPlayer2Wins(state);
+                    } else {
+                        state = PackedGameState.incrementDraws(state);
+                    }
+                    player1Score += rules.getPlayer1Points(cell);
+                    player2Score += rules.getPlayer2Points(cell);
+                    state = PackedGameState.setRoundInProgress(state, false);
+                    break;
+                case GAME_ENDED:
+                    state = PackedGameState.setGameInProgress(state, false);
+                    break;
+                case SNAPSHOT:
+                    state = records.getLong(offset + 8);
+                    player1Score = records.getInt(offset + 16);
+                    player2Score = records.getInt(offset + 20);
+                    break;
+                default:
+                    break;
+            }
+        }
+        
+        GameStateSnapshot toSnapshot(ScoringRules rules) {
+            return state == 0 ? null : new GameStateSnapshot(state, player1Score, player2Score, rules);
+        }
+    }
+}
@@ -5,7 +5,8 @@ package game;
  */
 public enum GameMode {
     PLAYER_VS_COMPUTER("Player vs Computer", "PvC"),
-    PLAYER_VS_PLAYER("Player vs Player", "PvP");
+    PLAYER_VS_PLAYER("Player vs Player", "PvP"),
+    FREE_FOR_ALL("Free for All", "FFA");
     
     private final String displayName;
     private final String shortCode;
@@ -10,21 +10,69 @@ public class GameState {
     private int player1Wins;
     private int player2Wins;
     private int draws;
+    private int player1Score;
+    private int player2Score;
     private boolean gameInProgress;
     private boolean roundInProgress;
     private long countdownStartTime;
-    private static final int COUNTDOWN_DURATION = 3000; // 3 seconds in milliseconds
+    private final GameClock clock;
+    private final long countdownDuration;
+    private final ScoringRules scoringRules;
+    private static final long DEFAULT_COUNTDOWN_DURATION = 3000; // 3 seconds in milliseconds
+    private static final long COUNTDOWN_NOT_STARTED = Long.MIN_VALUE;
     
     public GameState(GameMode mode, int maxRounds) {
+        this(mode, maxRounds, GameClock.SYSTEM, DEFAULT_COUNTDOWN_DURATION);
+    }
+    
+    /**
+     * Create a game state scored by a rule set, with the default countdown
+     * @param mode The game mode
+     * @param maxRounds Regular number of rounds, before any sudden death
+     * @param scoringRules Compiled scoring rules
+     */
+    public GameState(GameMode mode, int maxRounds, ScoringRules scoringRules) {
+        this(mode, maxRounds, GameClock.SYSTEM, DEFAULT_COUNTDOWN_DURATION, scoringRules);
+    }
+    
+    /**
+     * Create a game state with an explicit time source
+     * @param mode The game mode
+     * @param maxRounds Maximum number of rounds
+     * @param clock Clock used for the round countdown
+     * @param countdownDuration Countdown duration in milliseconds
+     */
+    public GameState(GameMode mode, int maxRounds, GameClock clock, long countdownDuration) {
+        this(mode, maxRounds, clock, countdownDuration, ScoringRules.STANDARD);
+    }
+    
+    /**
+     * Create a game state scored by a rule set
+     * @param mode The game mode
+     * @param maxRounds Regular number of rounds, before any sudden death
+     * @param clock Clock used for the round countdown
+     * @param countdownDuration Countdown duration in milliseconds
+     * @param scoringRules Compiled scoring rules
+     */
+    public GameState(GameMode mode, int maxRounds, GameClock clock, long countdownDuration,
+                     ScoringRules scoringRules) {
+        if (countdownDuration <= 0) {
+            throw new IllegalArgumentException("countdownDuration must be positive");
+        }
+        this.clock = clock;
+        this.countdownDuration = countdownDuration;
+        this.scoringRules = scoringRules;
         this.mode = mode;
         this.maxRounds = maxRounds;
         this.currentRound = 0;
         this.player1Wins = 0;
         this.player2Wins = 0;
         this.draws = 0;
+        this.player1Score = scoringRules.getPlayer1Handicap();
+        this.player2Score = scoringRules.getPlayer2Handicap();
         this.gameInProgress = false;
         this.roundInProgress = false;
-        this.countdownStartTime = 0;
+        this.countdownStartTime = COUNTDOWN_NOT_STARTED;
     }
     
     // Getters and setters
@@ -58,6 +106,7 @@ public class GameState {
     
     public void incrementPlayer1Wins() {
         this.player1Wins++;
+        this.player1Score += scoringRules.getWinPoints();
     }
     
     public int getPlayer2Wins() {
@@ -66,6 +115,7 @@ public class GameState {
     
     public void incrementPlayer2Wins() {
         this.player2Wins++;
+        this.player2Score += scoringRules.getWinPoints();
     }
     
     public int getDraws() {
@@ -74,6 +124,39 @@ public class GameState {
     
     public void incrementDraws() {
         this.draws++;
+        this.player1Score += scoringRules.getDrawPoints();
+        this.player2Score += scoringRules.getDrawPoints();
+    }
+    
+    /**
+     * Score a resolved round from the compiled rule tables
+     * @param cell Outcome cell: (gesture1 index) * ScoringRules.STRIDE + (gesture2 index),
+     *             where index 0 is a forfeit and g + 1 the gesture with ordinal g
+     */
+    void recordRound(int cell) {
+        ScoringRules rules = scoringRules;
+        player1Wins += rules.getPlayer1Wins(cell);
+        player2Wins += rules.getPlayer2Wins(cell);
+        draws += rules.getDraws(cell);
+        player1Score += rules.getPlayer1Points(cell);
+        player2Score += rules.getPlayer2Points(cell);
+    }
+    
+    /**
+     * Get player 1's match score, including handicap.
+     * Equal to the number of wins under ScoringRules.STANDARD.
+     * @return Points scored by player 1
+     */
+    public int getPlayer1Score() {
+        return player1Score;
+    }
+    
+    public int getPlayer2Score() {
+        return player2Score;
+    }
+    
+    public ScoringRules getScoringRules() {
+        return scoringRules;
     }
     
     public boolean isGameInProgress() {
@@ -93,16 +176,35 @@ public class GameState {
     }
     
     public void startCountdown() {
-        this.countdownStartTime = System.currentTimeMillis();
+        this.countdownStartTime = clock.currentTimeMillis();
         this.roundInProgress = true;
     }
     
     public long getCountdownTimeRemaining() {
-        if (countdownStartTime == 0) {
-            return COUNTDOWN_DURATION;
+        if (countdownStartTime == COUNTDOWN_NOT_STARTED) {
+            return countdownDuration;
         }
-        long elapsed = System.currentTimeMillis() - countdownStartTime;
-        return Math.max(0, COUNTDOWN_DURATION - elapsed);
+        long elapsed = clock.currentTimeMillis() - countdownStartTime;
+        return Math.max(0, countdownDuration - elapsed);
+    }
+    
+    /**
+     * Get the time at which the running countdown expires
+     * @return Deadline in clock milliseconds, or Long.MAX_VALUE if no countdown was started
+     */
+    public long getCountdownDeadline() {
+        if (countdownStartTime == COUNTDOWN_NOT_STARTED) {
+            return Long.MAX_VALUE;
+        }
+        return countdownStartTime + countdownDuration;
+    }
+    
+    public long getCountdownDuration() {
+        return countdownDuration;
+    }
+    
+    public GameClock getClock() {
+        return clock;
     }
     
     public boolean isCountdownExpired() {
@@ -110,12 +212,13 @@ public class GameState {
     }
     
     /**
-     * Check if the game is finished (one player has won the majority of rounds)
+     * Check if the game is finished under its scoring rules
+     * (see ScoringRules.isGameFinished()).
+     * Under ScoringRules.STANDARD this is "one player has won the majority of rounds".
      * @return true if the game is finished, false otherwise
      */
     public boolean isGameFinished() {
-        int roundsToWin = (maxRounds / 2) + 1;
-        return player1Wins >= roundsToWin || player2Wins >= roundsToWin || currentRound >= maxRounds;
+        return scoringRules.isGameFinished(mode, currentRound, maxRounds, player1Score, player2Score);
     }
     
     /**
@@ -123,13 +226,39 @@ public class GameState {
      * @return 1 if player 1 wins, 2 if player 2 wins, 0 if draw
      */
     public int getGameWinner() {
-        if (player1Wins > player2Wins) {
-            return 1;
-        } else if (player2Wins > player1Wins) {
-            return 2;
-        } else {
-            return 0; // Draw
-        }
+        return ScoringRules.getGameWinner(player1Score, player2Score);
+    }
+    
+    /**
+     * Restore the counters and scores of a recovered game, leaving no round in progress
+     */
+    void restoreCounters(int currentRound, int player1Wins, int player2Wins, int draws,
+                         int player1Score, int player2Score) {
+        this.currentRound = currentRound;
+        this.player1Wins = player1Wins;
+        this.player2Wins = player2Wins;
+        this.draws = draws;
+        this.player1Score = player1Score;
+        this.player2Score = player2Score;
+        this.roundInProgress = false;
+        this.countdownStartTime = COUNTDOWN_NOT_STARTED;
+    }
+    
+    /**
+     * Copy every field, including a running countdown, for GameEngine.fork()
+     */
+    GameState copy() {
+        GameState copy = new GameState(mode, maxRounds, clock, countdownDuration, scoringRules);
+        copy.currentRound = currentRound;
+        copy.player1Wins = player1Wins;
+        copy.player2Wins = player2Wins;
+        copy.draws = draws;
+        copy.player1Score = player1Score;
+        copy.player2Score = player2Score;
+        copy.gameInProgress = gameInProgress;
+        copy.roundInProgress = roundInProgress;
+        copy.countdownStartTime = countdownStartTime;
+        return copy;
     }
     
     /**
@@ -140,8 +269,10 @@ public class GameState {
         this.player1Wins = 0;
         this.player2Wins = 0;
         this.draws = 0;
+        this.player1Score = scoringRules.getPlayer1Handicap();
+        this.player2Score = scoringRules.getPlayer2Handicap();
         this.gameInProgress = false;
         this.roundInProgress = false;
-        this.countdownStartTime = 0;
+        this.countdownStartTime = COUNTDOWN_NOT_STARTED;
     }
 }
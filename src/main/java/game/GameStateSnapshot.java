@@ -0,0 +1,169 @@
+package game;
+
+import java.util.Objects;
+
+/**
+ * Immutable, consistent view of a game's counters, scores and flags at one point in time.
+ * Snapshots from GameEngine.getSnapshot() never mix values from different transitions
+ * (for example an advanced round with the previous round's scores).
+ * Whether the game is finished and who wins are answered from the scores under the
+ * game's ScoringRules, exactly as GameState does.
+ * Countdown timing is not part of the snapshot.
+ */
+public final class GameStateSnapshot {
+    private final long state;
+    private final int player1Score;
+    private final int player2Score;
+    private final ScoringRules scoringRules;
+    
+    /**
+     * Wrap a packed state scored under ScoringRules.STANDARD, where scores equal wins
+     * @param packedState The packed state (see PackedGameState)
+     */
+    public GameStateSnapshot(long packedState) {
+        this(packedState, PackedGameState.getPlayer1Wins(packedState),
+             PackedGameState.getPlayer2Wins(packedState), ScoringRules.STANDARD);
+    }
+    
+    /**
+     * Create a snapshot of a game scored by a rule set
+     * @param packedState The packed counters and flags (see PackedGameState)
+     * @param player1Score Player 1's score, including handicap
+     * @param player2Score Player 2's score, including handicap
+     * @param scoringRules The rules the game is played under
+     */
+    public GameStateSnapshot(long packedState, int player1Score, int player2Score,
+                             ScoringRules scoringRules) {
+        this.state = packedState;
+        this.player1Score = player1Score;
+        this.player2Score = player2Score;
+        this.scoringRules = Objects.requireNonNull(scoringRules);
+    }
+    
+    /**
+     * Wrap a packed state of a game whose rules derive the scores from the win counters
+     * @param packedState The packed state (see PackedGameState)
+     * @param scoringRules Rules for which hasCounterScores() holds
+     * @return The snapshot
+     */
+    static GameStateSnapshot withCounterScores(long packedState, ScoringRules scoringRules) {
+        return new GameStateSnapshot(packedState,
+                                     scoringRules.getPlayer1Score(PackedGameState.getPlayer1Wins(packedState)),
+                                     scoringRules.getPlayer2Score(PackedGameState.getPlayer2Wins(packedState)),
+                                     scoringRules);
+    }
+    
+    /**
+     * Take a snapshot of a live game state
+     * @param gameState The state to capture
+     * @return The snapshot
+     */
+    public static GameStateSnapshot of(GameState gameState) {
+        return new GameStateSnapshot(PackedGameState.of(gameState), gameState.getPlayer1Score(),
+                                     gameState.getPlayer2Score(), gameState.getScoringRules());
+    }
+    
+    public GameMode getMode() {
+        return PackedGameState.getMode(state);
+    }
+    
+    public int getCurrentRound() {
+        return PackedGameState.getCurrentRound(state);
+    }
+    
+    public int getMaxRounds() {
+        return PackedGameState.getMaxRounds(state);
+    }
+    
+    public int getPlayer1Wins() {
+        return PackedGameState.getPlayer1Wins(state);
+    }
+    
+    public int getPlayer2Wins() {
+        return PackedGameState.getPlayer2Wins(state);
+    }
+    
+    public int getDraws() {
+        return PackedGameState.getDraws(state);
+    }
+    
+    public int getPlayer1Score() {
+        return player1Score;
+    }
+    
+    public int getPlayer2Score() {
+        return player2Score;
+    }
+    
+    public ScoringRules getScoringRules() {
+        return scoringRules;
+    }
+    
+    public boolean isGameInProgress() {
+        return PackedGameState.isGameInProgress(state);
+    }
+    
+    public boolean isRoundInProgress() {
+        return PackedGameState.isRoundInProgress(state);
+    }
+    
+    public boolean isGameFinished() {
+        return scoringRules.isGameFinished(getMode(), getCurrentRound(), getMaxRounds(), player1Score, player2Score);
+    }
+    
+    /**
+     * Get the winner of the game
+     * @return 1 if player 1 wins, 2 if player 2 wins, 0 if draw
+     */
+    public int getGameWinner() {
+        return ScoringRules.getGameWinner(player1Score, player2Score);
+    }
+    
+    /**
+     * Unpack into a new GameState under the snapshot's scoring rules
+     * @return An equivalent GameState with no countdown running
+     */
+    public GameState toGameState() {
+        GameState gameState = new GameState(getMode(), getMaxRounds(), scoringRules);
+        restore(gameState);
+        return gameState;
+    }
+    
+    /**
+     * Copy the counters, scores and flags into an existing GameState
+     * with the same mode, maxRounds and scoring rules
+     */
+    void restore(GameState gameState) {
+        gameState.restoreCounters(getCurrentRound(), getPlayer1Wins(), getPlayer2Wins(), getDraws(),
+                                  player1Score, player2Score);
+        gameState.setGameInProgress(isGameInProgress());
+        gameState.setRoundInProgress(isRoundInProgress());
+    }
+    
+    public long getPackedState() {
+        return state;
+    }
+    
+    @Override
+    public boolean equals(Object other) {
+        if (!(other instanceof GameStateSnapshot)) {
+            return false;
+        }
+        GameStateSnapshot snapshot = (GameStateSnapshot) other;
+        return snapshot.state == state && snapshot.player1Score == player1Score
+            && snapshot.player2Score == player2Score && snapshot.scoringRules == scoringRules;
+    }
+    
+    @Override
+    public int hashCode() {
+        return (Long.hashCode(state) * 31 + player1Score) * 31 + player2Score;
+    }
+    
+    @Override
+    public String toString() {
+        return String.format("%s round %d/%d, P1 %d (%d pts), P2 %d (%d pts), draws %d%s",
+                             getMode().getShortCode(), getCurrentRound(), getMaxRounds(),
+                             getPlayer1Wins(), player1Score, getPlayer2Wins(), player2Score, getDraws(),
+                             isGameFinished() ? " (finished)" : "");
+    }
+}
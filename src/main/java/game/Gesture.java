@@ -1,5 +1,8 @@
 package game;
 
+import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
+
 /**
  * Enumeration representing the three possible gestures in Rock-Paper-Scissors
  */
@@ -8,6 +11,8 @@ public enum Gesture {
     PAPER("Paper", "P"),
     SCISSORS("Scissors", "S");
     
+    private static final Gesture[] VALUES = values();
+    
     private final String displayName;
     private final String shortCode;
     
@@ -30,9 +35,34 @@ public enum Gesture {
      * @return true if this gesture wins, false otherwise
      */
     public boolean beats(Gesture opponent) {
-        return (this == ROCK && opponent == SCISSORS) ||
-               (this == PAPER && opponent == ROCK) ||
-               (this == SCISSORS && opponent == PAPER);
+        return GestureRules.CLASSIC.beats(ordinal(), opponent.ordinal());
+    }
+    
+    /**
+     * Resolve a pair of gestures through the shared outcome table
+     * @param first The first player's gesture
+     * @param second The second player's gesture
+     * @return 1 if the first gesture wins, 2 if the second wins, 0 if draw
+     */
+    public static int outcome(Gesture first, Gesture second) {
+        return GestureRules.CLASSIC.outcome(first.ordinal(), second.ordinal());
+    }
+    
+    /**
+     * Get the gesture that beats this one
+     * @return The counter gesture
+     */
+    public Gesture counter() {
+        return VALUES[GestureRules.CLASSIC.counter(ordinal())];
+    }
+    
+    /**
+     * Get a gesture by ordinal
+     * @param ordinal Ordinal in ROCK, PAPER, SCISSORS order
+     * @return The gesture
+     */
+    public static Gesture fromOrdinal(int ordinal) {
+        return VALUES[ordinal];
     }
     
     /**
@@ -54,7 +84,17 @@ public enum Gesture {
      * @return A randomly selected gesture
      */
     public static Gesture random() {
-        Gesture[] gestures = values();
-        return gestures[(int) (Math.random() * gestures.length)];
+        // ThreadLocalRandom avoids contention on the shared Math.random() seed
+        // when many simulation threads draw gestures at once
+        return VALUES[ThreadLocalRandom.current().nextInt(VALUES.length)];
+    }
+    
+    /**
+     * Get a random gesture from a given source, for reproducible runs
+     * @param random Source of randomness
+     * @return A randomly selected gesture
+     */
+    public static Gesture random(Random random) {
+        return VALUES[random.nextInt(VALUES.length)];
     }
 }
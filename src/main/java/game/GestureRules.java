@@ -0,0 +1,122 @@
+package game;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Ordinal-indexed outcome table for a balanced odd-cycle rule set.
+ * Gestures are arranged in a cycle of odd length n; each gesture beats the
+ * (n - 1) / 2 gestures that precede it, so every gesture wins and loses equally often.
+ * Classic Rock-Paper-Scissors is the n = 3 case and matches Gesture ordinals.
+ * Resolving a pair is a single array read with no branching.
+ */
+public final class GestureRules {
+    /** Outcome codes stored in the table */
+    public static final int DRAW = 0;
+    public static final int FIRST_WINS = 1;
+    public static final int SECOND_WINS = 2;
+    
+    public static final GestureRules CLASSIC = new GestureRules("Rock-Paper-Scissors",
+        "Rock", "Paper", "Scissors");
+    
+    public static final GestureRules LIZARD_SPOCK = new GestureRules("Rock-Paper-Scissors-Lizard-Spock",
+        "Rock", "Spock", "Paper", "Lizard", "Scissors");
+    
+    public static final GestureRules RPS_15 = new GestureRules("RPS-15",
+        "Gun", "Lightning", "Devil", "Dragon", "Water", "Air", "Paper", "Sponge",
+        "Wolf", "Tree", "Human", "Snake", "Scissors", "Fire", "Rock");
+    
+    private final String name;
+    private final List<String> gestureNames;
+    private final int size;
+    private final byte[] outcomes;
+    private final int[] counters;
+    
+    /**
+     * Create a rule set from gesture names listed in cycle order
+     * @param name Name of the rule set
+     * @param gestureNames Gesture names; each beats the (n - 1) / 2 names before it, cyclically
+     */
+    public GestureRules(String name, String... gestureNames) {
+        int n = gestureNames.length;
+        if (n < 3 || n % 2 == 0) {
+            throw new IllegalArgumentException("A balanced rule set needs an odd number of gestures (at least 3)");
+        }
+        this.name = name;
+        this.gestureNames = Collections.unmodifiableList(Arrays.asList(gestureNames.clone()));
+        this.size = n;
+        this.outcomes = new byte[n * n];
+        this.counters = new int[n];
+        
+        int half = (n - 1) / 2;
+        for (int i = 0; i < n; i++) {
+            for (int j = 0; j < n; j++) {
+                int distance = Math.floorMod(i - j, n);
+                byte outcome;
+                if (distance == 0) {
+                    outcome = DRAW;
+                } else if (distance <= half) {
+                    outcome = FIRST_WINS;
+                } else {
+                    outcome = SECOND_WINS;
+                }
+                outcomes[i * n + j] = outcome;
+            }
+            // The gesture right after i in the cycle always beats it
+            counters[i] = (i + 1) % n;
+        }
+    }
+    
+    public String getName() {
+        return name;
+    }
+    
+    public int size() {
+        return size;
+    }
+    
+    public String getGestureName(int ordinal) {
+        return gestureNames.get(ordinal);
+    }
+    
+    public List<String> getGestureNames() {
+        return gestureNames;
+    }
+    
+    /**
+     * Resolve a pair of gestures
+     * @param first Ordinal of the first gesture
+     * @param second Ordinal of the second gesture
+     * @return DRAW, FIRST_WINS or SECOND_WINS
+     */
+    public int outcome(int first, int second) {
+        return outcomes[first * size + second];
+    }
+    
+    public boolean beats(int first, int second) {
+        return outcomes[first * size + second] == FIRST_WINS;
+    }
+    
+    /**
+     * Get a gesture that beats the given one
+     * @param ordinal Gesture to counter
+     * @return Ordinal of the gesture that follows it in the cycle
+     */
+    public int counter(int ordinal) {
+        return counters[ordinal];
+    }
+    
+    /**
+     * Get a copy of the flattened n x n outcome table, indexed first * n + second
+     * @return The outcome table
+     */
+    public byte[] getOutcomeTable() {
+        return outcomes.clone();
+    }
+    
+    @Override
+    public String toString() {
+        return name + " (" + size + " gestures)";
+    }
+}
@@ -0,0 +1,223 @@
+package game;
+
+import util.GameConfig;
+
+/**
+ * Exact probability of each final match result from any point of a best-of-maxRounds match,
+ * given fixed per-round win, draw and loss probabilities for player 1.
+ * The table is filled once by dynamic programming over (completed rounds, player 1 wins,
+ * player 2 wins), walking backwards from the finished states of ScoringRules.STANDARD:
+ * a majority of maxRounds, or the round cap. Queries are then a single array read.
+ * Games played under other ScoringRules (handicaps, weighted points, a target score,
+ * a win margin or sudden death) finish differently and are rejected.
+ * Instances are immutable and safe to share between threads.
+ */
+public final class MatchOutcomeTable {
+    private final int maxRounds;
+    private final int roundsToWin;
+    private final double winProbability;
+    private final double drawProbability;
+    private final double lossProbability;
+    // Indexed by index(round, player1Wins, player2Wins) for unfinished states only;
+    // finished states are answered directly
+    private final double[] player1Wins;
+    private final double[] player2Wins;
+    
+    /**
+     * Build the table
+     * @param maxRounds Maximum number of rounds (1 to game.max.rounds)
+     * @param winProbability Probability that player 1 wins a round
+     * @param drawProbability Probability that a round is drawn
+     * @param lossProbability Probability that player 2 wins a round
+     */
+    public MatchOutcomeTable(int maxRounds, double winProbability, double drawProbability,
+                             double lossProbability) {
+        int limit = GameConfig.getDefault().getMaxRounds();
+        if (maxRounds < 1 || maxRounds > limit) {
+            throw new IllegalArgumentException("maxRounds must be between 1 and " + limit);
+        }
+        if (winProbability < 0 || drawProbability < 0 || lossProbability < 0
+                || Math.abs(winProbability + drawProbability + lossProbability - 1) > 1e-9) {
+            throw new IllegalArgumentException("Round probabilities must be non-negative and sum to 1");
+        }
+        this.maxRounds = maxRounds;
+        this.roundsToWin = (maxRounds / 2) + 1;
+        this.winProbability = winProbability;
+        this.drawProbability = drawProbability;
+        this.lossProbability = lossProbability;
+        
+        int size = maxRounds * roundsToWin * roundsToWin;
+        this.player1Wins = new double[size];
+        this.player2Wins = new double[size];
+        
+        // Every unfinished state at round r only depends on states at round r + 1
+        for (int round = maxRounds - 1; round >= 0; round--) {
+            for (int a = Math.min(round, roundsToWin - 1); a >= 0; a--) {
+                for (int b = Math.min(round - a, roundsToWin - 1); b >= 0; b--) {
+                    int i = index(round, a, b);
+                    player1Wins[i] = winProbability * player1Probability(round + 1, a + 1, b)
+                                   + lossProbability * player1Probability(round + 1, a, b + 1)
+                                   + drawProbability * player1Probability(round + 1, a, b);
+                    player2Wins[i] = winProbability * player2Probability(round + 1, a + 1, b)
+                                   + lossProbability * player2Probability(round + 1, a, b + 1)
+                                   + drawProbability * player2Probability(round + 1, a, b);
+                }
+            }
+        }
+    }
+    
+    /**
+     * Build the table for two random players, where every round is a win,
+     * a draw or a loss with probability 1/3
+     * @param maxRounds Maximum number of rounds
+     * @return The table
+     */
+    public static MatchOutcomeTable uniform(int maxRounds) {
+        return new MatchOutcomeTable(maxRounds, 1.0 / 3, 1.0 / 3, 1.0 / 3);
+    }
+    
+    private int index(int round, int a, int b) {
+        return (round * roundsToWin + a) * roundsToWin + b;
+    }
+    
+    private boolean isFinished(int round, int a, int b) {
+        return a >= roundsToWin || b >= roundsToWin || round >= maxRounds;
+    }
+    
+    private double player1Probability(int round, int a, int b) {
+        if (isFinished(round, a, b)) {
+            return a > b ? 1 : 0;
+        }
+        return player1Wins[index(round, a, b)];
+    }
+    
+    private double player2Probability(int round, int a, int b) {
+        if (isFinished(round, a, b)) {
+            return b > a ? 1 : 0;
+        }
+        return player2Wins[index(round, a, b)];
+    }
+    
+    private void check(int round, int a, int b) {
+        if (a < 0 || b < 0 || a + b > round || round > maxRounds) {
+            throw new IllegalArgumentException("No such state: round " + round + ", wins " + a + "-" + b);
+        }
+    }
+    
+    /**
+     * Probability that player 1 wins the match
+     * @param completedRounds Rounds already resolved
+     * @param player1Wins Rounds won by player 1 so far
+     * @param player2Wins Rounds won by player 2 so far
+     * @return Probability in [0, 1]
+     */
+    public double getPlayer1WinProbability(int completedRounds, int player1Wins, int player2Wins) {
+        check(completedRounds, player1Wins, player2Wins);
+        return player1Probability(completedRounds, player1Wins, player2Wins);
+    }
+    
+    /**
+     * Probability that player 2 wins the match
+     * @param completedRounds Rounds already resolved
+     * @param player1Wins Rounds won by player 1 so far
+     * @param player2Wins Rounds won by player 2 so far
+     * @return Probability in [0, 1]
+     */
+    public double getPlayer2WinProbability(int completedRounds, int player1Wins, int player2Wins) {
+        check(completedRounds, player1Wins, player2Wins);
+        return player2Probability(completedRounds, player1Wins, player2Wins);
+    }
+    
+    /**
+     * Probability that the match ends drawn
+     * @param completedRounds Rounds already resolved
+     * @param player1Wins Rounds won by player 1 so far
+     * @param player2Wins Rounds won by player 2 so far
+     * @return Probability in [0, 1]
+     */
+    public double getDrawProbability(int completedRounds, int player1Wins, int player2Wins) {
+        check(completedRounds, player1Wins, player2Wins);
+        double draw = 1 - player1Probability(completedRounds, player1Wins, player2Wins)
+                        - player2Probability(completedRounds, player1Wins, player2Wins);
+        return Math.max(0, draw);
+    }
+    
+    /**
+     * Probability that player 1 wins from a live state.
+     * A round in progress has not been resolved yet and is not counted as completed.
+     * @param gameState State of a match with this table's maxRounds
+     * @return Probability in [0, 1]
+     * @throws IllegalArgumentException If the match is not scored like ScoringRules.STANDARD
+     */
+    public double getPlayer1WinProbability(GameState gameState) {
+        return getPlayer1WinProbability(completedRounds(gameState),
+                                        gameState.getPlayer1Wins(), gameState.getPlayer2Wins());
+    }
+    
+    public double getPlayer2WinProbability(GameState gameState) {
+        return getPlayer2WinProbability(completedRounds(gameState),
+                                        gameState.getPlayer1Wins(), gameState.getPlayer2Wins());
+    }
+    
+    public double getDrawProbability(GameState gameState) {
+        return getDrawProbability(completedRounds(gameState),
+                                  gameState.getPlayer1Wins(), gameState.getPlayer2Wins());
+    }
+    
+    /**
+     * Probability that player 1 wins from a packed state, such as GameEngine.getPackedSnapshot().
+     * A packed state does not record its scoring rules; like PackedGameState itself, this
+     * assumes ScoringRules.STANDARD.
+     * @param state The packed state (see PackedGameState)
+     * @return Probability in [0, 1]
+     */
+    public double getPlayer1WinProbability(long state) {
+        return getPlayer1WinProbability(completedRounds(state),
+                                        PackedGameState.getPlayer1Wins(state), PackedGameState.getPlayer2Wins(state));
+    }
+    
+    public double getPlayer2WinProbability(long state) {
+        return getPlayer2WinProbability(completedRounds(state),
+                                        PackedGameState.getPlayer1Wins(state), PackedGameState.getPlayer2Wins(state));
+    }
+    
+    public double getDrawProbability(long state) {
+        return getDrawProbability(completedRounds(state),
+                                  PackedGameState.getPlayer1Wins(state), PackedGameState.getPlayer2Wins(state));
+    }
+    
+    private int completedRounds(GameState gameState) {
+        checkMaxRounds(gameState.getMaxRounds());
+        if (gameState.getMode() == GameMode.FREE_FOR_ALL || !gameState.getScoringRules().isMajorityRule()) {
+            throw new IllegalArgumentException("Only two-player matches under the standard scoring rules are supported");
+        }
+        return gameState.getCurrentRound() - (gameState.isRoundInProgress() ? 1 : 0);
+    }
+    
+    private int completedRounds(long state) {
+        checkMaxRounds(PackedGameState.getMaxRounds(state));
+        return PackedGameState.getCurrentRound(state) - (PackedGameState.isRoundInProgress(state) ? 1 : 0);
+    }
+    
+    private void checkMaxRounds(int stateMaxRounds) {
+        if (stateMaxRounds != maxRounds) {
+            throw new IllegalArgumentException("Table is for " + maxRounds + " rounds, state has " + stateMaxRounds);
+        }
+    }
+    
+    public int getMaxRounds() {
+        return maxRounds;
+    }
+    
+    public double getRoundWinProbability() {
+        return winProbability;
+    }
+    
+    public double getRoundDrawProbability() {
+        return drawProbability;
+    }
+    
+    public double getRoundLossProbability() {
+        return lossProbability;
+    }
+}
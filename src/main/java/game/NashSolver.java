@@ -0,0 +1,216 @@
+package game;
+
+/**
+ * Solves two-player zero-sum games given as a payoff matrix.
+ * payoff[i][j] is what the row player gains when it plays gesture i against gesture j.
+ * The minimax mixed strategies are found with the simplex method on the classic LP
+ * reduction: shift the matrix so every entry is positive, then maximize sum(y) subject
+ * to payoff * y &lt;= 1, y &gt;= 0. The column strategy is y normalized, the row strategy
+ * is read from the dual values of the same final tableau, and the game value is 1 / sum(y)
+ * minus the shift. Dense pivoting keeps matrices of a few hundred gestures well under
+ * a second.
+ */
+public final class NashSolver {
+    private static final double EPSILON = 1e-12;
+    
+    private NashSolver() {
+    }
+    
+    /**
+     * Equilibrium of a zero-sum game
+     */
+    public static final class Equilibrium {
+        private final double[] rowStrategy;
+        private final double[] columnStrategy;
+        private final double value;
+        
+        Equilibrium(double[] rowStrategy, double[] columnStrategy, double value) {
+            this.rowStrategy = rowStrategy;
+            this.columnStrategy = columnStrategy;
+            this.value = value;
+        }
+        
+        /**
+         * Get the row player's mixed strategy
+         * @return Probability per gesture ordinal (a copy)
+         */
+        public double[] getRowStrategy() {
+            return rowStrategy.clone();
+        }
+        
+        /**
+         * Get the column player's mixed strategy
+         * @return Probability per gesture ordinal (a copy)
+         */
+        public double[] getColumnStrategy() {
+            return columnStrategy.clone();
+        }
+        
+        /**
+         * Get the expected payoff of the row player when both play the equilibrium
+         * @return The game value, 0 for symmetric games
+         */
+        public double getValue() {
+            return value;
+        }
+    }
+    
+    /**
+     * Build the win/loss payoff matrix of a rule set: 1 for a win, -1 for a loss, 0 for a draw
+     * @param rules The rule set
+     * @return An n x n payoff matrix
+     */
+    public static double[][] payoffMatrix(GestureRules rules) {
+        int n = rules.size();
+        double[][] payoff = new double[n][n];
+        for (int i = 0; i < n; i++) {
+            for (int j = 0; j < n; j++) {
+                int outcome = rules.outcome(i, j);
+                payoff[i][j] = outcome == GestureRules.FIRST_WINS ? 1
+                             : outcome == GestureRules.SECOND_WINS ? -1 : 0;
+            }
+        }
+        return payoff;
+    }
+    
+    /**
+     * Solve a zero-sum game
+     * @param payoff Row player payoffs, rows x columns; need not be square
+     * @return The equilibrium strategies and value
+     */
+    public static Equilibrium solve(double[][] payoff) {
+        int rows = payoff.length;
+        if (rows == 0 || payoff[0].length == 0) {
+            throw new IllegalArgumentException("Payoff matrix must not be empty");
+        }
+        int columns = payoff[0].length;
+        
+        double min = Double.POSITIVE_INFINITY;
+        for (double[] row : payoff) {
+            if (row.length != columns) {
+                throw new IllegalArgumentException("Payoff matrix rows differ in length");
+            }
+            for (double entry : row) {
+                min = Math.min(min, entry);
+            }
+        }
+        double shift = 1 - min;
+        
+        // Tableau: one row per constraint plus the objective row;
+        // columns are y, then one slack per constraint, then the right-hand side
+        int width = columns + rows + 1;
+        int rhs = width - 1;
+        double[][] tableau = new double[rows + 1][width];
+        int[] basis = new int[rows];
+        for (int i = 0; i < rows; i++) {
+            for (int j = 0; j < columns; j++) {
+                tableau[i][j] = payoff[i][j] + shift;
+            }
+            tableau[i][columns + i] = 1;
+            tableau[i][rhs] = 1;
+            basis[i] = columns + i;
+        }
+        double[] objective = tableau[rows];
+        for (int j = 0; j < columns; j++) {
+            objective[j] = -1;
+        }
+        
+        // Dantzig's rule, falling back to Bland's rule if pivoting runs long,
+        // which rules out cycling on the degenerate vertices these games produce
+        int maxDantzigPivots = 50 * (rows + columns);
+        for (int pivots = 0; ; pivots++) {
+            boolean bland = pivots > maxDantzigPivots;
+            int entering = -1;
+            double best = -EPSILON;
+            for (int j = 0; j < rhs; j++) {
+                if (objective[j] < best) {
+                    entering = j;
+                    if (bland) {
+                        break;
+                    }
+                    best = objective[j];
+                }
+            }
+            if (entering < 0) {
+                break;
+            }
+            
+            int leaving = -1;
+            double bestRatio = Double.POSITIVE_INFINITY;
+            for (int i = 0; i < rows; i++) {
+                double coefficient = tableau[i][entering];
+                if (coefficient > EPSILON) {
+                    double ratio = tableau[i][rhs] / coefficient;
+                    if (ratio < bestRatio - EPSILON
+                            || (ratio < bestRatio + EPSILON && leaving >= 0 && basis[i] < basis[leaving])) {
+                        bestRatio = ratio;
+                        leaving = i;
+                    }
+                }
+            }
+            if (leaving < 0) {
+                // Cannot happen with a positive matrix: every column is bounded
+                throw new IllegalStateException("Unbounded game LP");
+            }
+            pivot(tableau, leaving, entering);
+            basis[leaving] = entering;
+        }
+        
+        double total = objective[rhs];
+        double[] columnStrategy = new double[columns];
+        for (int i = 0; i < rows; i++) {
+            if (basis[i] < columns) {
+                columnStrategy[basis[i]] = tableau[i][rhs] / total;
+            }
+        }
+        double[] rowStrategy = new double[rows];
+        for (int i = 0; i < rows; i++) {
+            rowStrategy[i] = Math.max(0, objective[columns + i]) / total;
+        }
+        normalize(rowStrategy);
+        normalize(columnStrategy);
+        return new Equilibrium(rowStrategy, columnStrategy, 1 / total - shift);
+    }
+    
+    /**
+     * Solve the game of a rule set
+     * @param rules The rule set
+     * @return The equilibrium, uniform for the balanced built-in rule sets
+     */
+    public static Equilibrium solve(GestureRules rules) {
+        return solve(payoffMatrix(rules));
+    }
+    
+    private static void pivot(double[][] tableau, int pivotRow, int pivotColumn) {
+        double[] row = tableau[pivotRow];
+        double scale = 1 / row[pivotColumn];
+        for (int j = 0; j < row.length; j++) {
+            row[j] *= scale;
+        }
+        for (int i = 0; i < tableau.length; i++) {
+            if (i == pivotRow) {
+                continue;
+            }
+            double[] target = tableau[i];
+            double factor = target[pivotColumn];
+            if (factor != 0) {
+                for (int j = 0; j < target.length; j++) {
+                    target[j] -= factor * row[j];
+                }
+            }
+        }
+    }
+    
+    /**
+     * Remove rounding noise so the probabilities sum to exactly one
+     */
+    private static void normalize(double[] strategy) {
+        double sum = 0;
+        for (double p : strategy) {
+            sum += p;
+        }
+        for (int i = 0; i < strategy.length; i++) {
+            strategy[i] /= sum;
+        }
+    }
+}
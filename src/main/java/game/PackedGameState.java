@@ -0,0 +1,231 @@
+package game;
+
+/**
+ * GameState packed into a single long for mass simulation.
+ * Static accessors and transitions mirror GameState, so populations of matches
+ * can live in a long[] instead of one heap object each.
+ * Bit layout, lowest bits first:
+ * <pre>
+ *   0-11  current round
+ *  12-23  max rounds
+ *  24-35  player 1 wins
+ *  36-47  player 2 wins
+ *  48-59  draws
+ *  60     game in progress
+ *  61     round in progress
+ *  62-63  game mode (GameMode ordinal)
+ * </pre>
+ * Every counter is limited to MAX_ROUNDS; a match never counts past its round cap.
+ * The packed form holds no scores, so isGameFinished() and getGameWinner() apply
+ * ScoringRules.STANDARD, under which each player's score is their number of wins.
+ * Games under other rules are captured with their scores by GameStateSnapshot.
+ */
+public final class PackedGameState {
+    /** Largest supported maxRounds */
+    public static final int MAX_ROUNDS = (1 << 12) - 1;
+    
+    private static final int FIELD_BITS = 12;
+    private static final long FIELD_MASK = (1L << FIELD_BITS) - 1;
+    
+    private static final int ROUND_SHIFT = 0;
+    private static final int MAX_ROUNDS_SHIFT = 12;
+    private static final int PLAYER1_WINS_SHIFT = 24;
+    private static final int PLAYER2_WINS_SHIFT = 36;
+    private static final int DRAWS_SHIFT = 48;
+    private static final long GAME_IN_PROGRESS_BIT = 1L << 60;
+    private static final long ROUND_IN_PROGRESS_BIT = 1L << 61;
+    private static final int MODE_SHIFT = 62;
+    private static final long MODE_MASK = 3L << MODE_SHIFT;
+    private static final GameMode[] MODES = GameMode.values();
+    
+    private static final long ROUND_ONE = 1L << ROUND_SHIFT;
+    private static final long PLAYER1_WIN_ONE = 1L << PLAYER1_WINS_SHIFT;
+    private static final long PLAYER2_WIN_ONE = 1L << PLAYER2_WINS_SHIFT;
+    private static final long DRAW_ONE = 1L << DRAWS_SHIFT;
+    
+    private PackedGameState() {
+    }
+    
+    /**
+     * Create a fresh Player vs Computer state
+     * @param maxRounds Maximum number of rounds (1 to MAX_ROUNDS)
+     * @return The packed state
+     */
+    public static long create(int maxRounds) {
+        return create(GameMode.PLAYER_VS_COMPUTER, maxRounds);
+    }
+    
+    /**
+     * Create a fresh state, equivalent to new GameState(mode, maxRounds)
+     * @param mode The game mode
+     * @param maxRounds Maximum number of rounds (1 to MAX_ROUNDS)
+     * @return The packed state
+     */
+    public static long create(GameMode mode, int maxRounds) {
+        if (maxRounds < 1 || maxRounds > MAX_ROUNDS) {
+            throw new IllegalArgumentException("maxRounds must be between 1 and " + MAX_ROUNDS);
+        }
+        return (long) maxRounds << MAX_ROUNDS_SHIFT | (long) mode.ordinal() << MODE_SHIFT;
+    }
+    
+    /**
+     * Pack the counters and flags of a GameState
+     * @param gameState The state to pack
+     * @return The packed state
+     */
+    public static long of(GameState gameState) {
+        long state = create(gameState.getMode(), gameState.getMaxRounds())
+            | (long) gameState.getCurrentRound() << ROUND_SHIFT
+            | (long) gameState.getPlayer1Wins() << PLAYER1_WINS_SHIFT
+            | (long) gameState.getPlayer2Wins() << PLAYER2_WINS_SHIFT
+            | (long) gameState.getDraws() << DRAWS_SHIFT;
+        state = setGameInProgress(state, gameState.isGameInProgress());
+        return setRoundInProgress(state, gameState.isRoundInProgress());
+    }
+    
+    /**
+     * Unpack into a new GameState
+     * @param state The packed state
+     * @return An equivalent GameState with no countdown running
+     */
+    public static GameState toGameState(long state) {
+        GameState gameState = new GameState(getMode(state), getMaxRounds(state));
+        restore(gameState, state);
+        return gameState;
+    }
+    
+    /**
+     * Copy the counters and flags of a packed state into an existing GameState
+     * with the same mode and maxRounds.
+     * The packed form holds no scores, so they are rebuilt from the counters: exact under
+     * ScoringRules.STANDARD and any rules without gesture weights or draw points.
+     * GameStateSnapshot.restore() carries the scores for all other rules.
+     */
+    static void restore(GameState gameState, long state) {
+        ScoringRules rules = gameState.getScoringRules();
+        int player1Wins = getPlayer1Wins(state);
+        int player2Wins = getPlayer2Wins(state);
+        int draws = getDraws(state);
+        gameState.restoreCounters(getCurrentRound(state), player1Wins, player2Wins, draws,
+                                  rules.getPlayer1Handicap() + player1Wins * rules.getWinPoints()
+                                      + draws * rules.getDrawPoints(),
+                                  rules.getPlayer2Handicap() + player2Wins * rules.getWinPoints()
+                                      + draws * rules.getDrawPoints());
+        gameState.setGameInProgress(isGameInProgress(state));
+        gameState.setRoundInProgress(isRoundInProgress(state));
+    }
+    
+    // Getters and transitions
+    public static GameMode getMode(long state) {
+        return MODES[(int) (state >>> MODE_SHIFT)];
+    }
+    
+    public static long setMode(long state, GameMode mode) {
+        return (state & ~MODE_MASK) | (long) mode.ordinal() << MODE_SHIFT;
+    }
+    
+    public static int getCurrentRound(long state) {
+        return (int) ((state >>> ROUND_SHIFT) & FIELD_MASK);
+    }
+    
+    public static long nextRound(long state) {
+        return state + ROUND_ONE;
+    }
+    
+    public static int getMaxRounds(long state) {
+        return (int) ((state >>> MAX_ROUNDS_SHIFT) & FIELD_MASK);
+    }
+    
+    public static int getPlayer1Wins(long state) {
+        return (int) ((state >>> PLAYER1_WINS_SHIFT) & FIELD_MASK);
+    }
+    
+    public static long incrementPlayer1Wins(long state) {
+        return state + PLAYER1_WIN_ONE;
+    }
+    
+    public static int getPlayer2Wins(long state) {
+        return (int) ((state >>> PLAYER2_WINS_SHIFT) & FIELD_MASK);
+    }
+    
+    public static long incrementPlayer2Wins(long state) {
+        return state + PLAYER2_WIN_ONE;
+    }
+    
+    public static int getDraws(long state) {
+        return (int) ((state >>> DRAWS_SHIFT) & FIELD_MASK);
+    }
+    
+    public static long incrementDraws(long state) {
+        return state + DRAW_ONE;
+    }
+    
+    public static boolean isGameInProgress(long state) {
+        return (state & GAME_IN_PROGRESS_BIT) != 0;
+    }
+    
+    public static long setGameInProgress(long state, boolean gameInProgress) {
+        return gameInProgress ? state | GAME_IN_PROGRESS_BIT : state & ~GAME_IN_PROGRESS_BIT;
+    }
+    
+    public static boolean isRoundInProgress(long state) {
+        return (state & ROUND_IN_PROGRESS_BIT) != 0;
+    }
+    
+    public static long setRoundInProgress(long state, boolean roundInProgress) {
+        return roundInProgress ? state | ROUND_IN_PROGRESS_BIT : state & ~ROUND_IN_PROGRESS_BIT;
+    }
+    
+    /**
+     * Play one round: advance the round counter and record its result.
+     * Equivalent to nextRound() followed by the matching increment.
+     * @param state The packed state
+     * @param winner 1 if player 1 won the round, 2 if player 2 won, 0 if draw
+     * @return The new state
+     */
+    public static long applyRound(long state, int winner) {
+        switch (winner) {
+            case 1:
+                return state + (ROUND_ONE + PLAYER1_WIN_ONE);
+            case 2:
+                return state + (ROUND_ONE + PLAYER2_WIN_ONE);
+            default:
+                return state + (ROUND_ONE + DRAW_ONE);
+        }
+    }
+    
+    /**
+     * Check if the game is finished under ScoringRules.STANDARD
+     * @param state The packed state
+     * @return true if the game is finished, false otherwise
+     */
+    public static boolean isGameFinished(long state) {
+        return ScoringRules.STANDARD.isGameFinished(getMode(state), getCurrentRound(state), getMaxRounds(state),
+                                                    getPlayer1Wins(state), getPlayer2Wins(state));
+    }
+    
+    /**
+     * Get the winner of the game under ScoringRules.STANDARD
+     * @param state The packed state
+     * @return 1 if player 1 wins, 2 if player 2 wins, 0 if draw
+     */
+    public static int getGameWinner(long state) {
+        return ScoringRules.getGameWinner(getPlayer1Wins(state), getPlayer2Wins(state));
+    }
+    
+    /**
+     * Reset the state for a new game, keeping mode and maxRounds
+     * @param state The packed state
+     * @return The reset state
+     */
+    public static long reset(long state) {
+        return state & (FIELD_MASK << MAX_ROUNDS_SHIFT | MODE_MASK);
+    }
+    
+    public static String toString(long state) {
+        return String.format("round %d/%d, P1 %d, P2 %d, draws %d%s",
+                             getCurrentRound(state), getMaxRounds(state),
+                             getPlayer1Wins(state), getPlayer2Wins(state), getDraws(state),
+                             isGameFinished(state) ? " (finished)" : "");
+    }
+}
@@ -0,0 +1,108 @@
+package game;
+
+import java.util.Arrays;
+
+/**
+ * A population of matches held as packed states in one long[].
+ * Eight bytes per match instead of a GameState object each, which keeps tens of
+ * millions of in-flight simulated matches in a single primitive array.
+ */
+public class PackedMatchStore {
+    private final long[] states;
+    
+    /**
+     * Create a store of fresh matches
+     * @param size Number of matches
+     * @param maxRounds Maximum number of rounds of every match
+     */
+    public PackedMatchStore(int size, int maxRounds) {
+        states = new long[size];
+        Arrays.fill(states, PackedGameState.create(maxRounds));
+    }
+    
+    public int size() {
+        return states.length;
+    }
+    
+    public long get(int index) {
+        return states[index];
+    }
+    
+    public void set(int index, long state) {
+        states[index] = state;
+    }
+    
+    /**
+     * Record one round for a single match, unless it is already finished
+     * @param index Match index
+     * @param winner 1, 2 or 0 for a draw
+     * @return true if the round was applied
+     */
+    public boolean applyRound(int index, int winner) {
+        long state = states[index];
+        if (PackedGameState.isGameFinished(state)) {
+            return false;
+        }
+        states[index] = PackedGameState.applyRound(state, winner);
+        return true;
+    }
+    
+    /**
+     * Record one round for every unfinished match.
+     * The outcome codes match BatchResolver results (0 draw, 1 first wins, 2 second wins).
+     * @param outcomes Round result per match
+     * @return Number of matches still unfinished afterwards
+     */
+    public int applyRounds(byte[] outcomes) {
+        if (outcomes.length != states.length) {
+            throw new IllegalArgumentException("Expected " + states.length + " outcomes, got " + outcomes.length);
+        }
+        int unfinished = 0;
+        for (int i = 0; i < states.length; i++) {
+            long state = states[i];
+            if (!PackedGameState.isGameFinished(state)) {
+                state = PackedGameState.applyRound(state, outcomes[i]);
+                states[i] = state;
+                if (!PackedGameState.isGameFinished(state)) {
+                    unfinished++;
+                }
+            }
+        }
+        return unfinished;
+    }
+    
+    /**
+     * Count finished matches
+     * @return Number of matches whose game is finished
+     */
+    public int countFinished() {
+        int finished = 0;
+        for (long state : states) {
+            if (PackedGameState.isGameFinished(state)) {
+                finished++;
+            }
+        }
+        return finished;
+    }
+    
+    /**
+     * Count game winners over all matches
+     * @return Array of {draws, player 1 wins, player 2 wins}
+     */
+    public long[] countWinners() {
+        long[] counts = new long[3];
+        for (long state : states) {
+            counts[PackedGameState.getGameWinner(state)]++;
+        }
+        return counts;
+    }
+    
+    /**
+     * Reset every match for a new game
+     */
+    public void resetAll() {
+        for (int i = 0; i < states.length; i++) {
+            states[i] = PackedGameState.reset(states[i]);
+        }
+    }
+}
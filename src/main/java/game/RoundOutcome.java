@@ -0,0 +1,116 @@
+package game;
+
+import util.Messages;
+
+/**
+ * Structured result of one round: who won, why, and with which gestures.
+ * An engine keeps one immutable instance per gesture combination and reuses it
+ * every round, so resolving a round allocates nothing. The display text is only
+ * rendered from messages.properties the first time a consumer asks for it.
+ */
+public final class RoundOutcome {
+    
+    /**
+     * Why the round ended the way it did
+     */
+    public enum Reason {
+        /** Both players threw and one gesture beat the other */
+        WIN,
+        /** Both players threw the same gesture */
+        DRAW,
+        /** One player did not throw in time */
+        FORFEIT,
+        /** Neither player threw in time */
+        DOUBLE_FORFEIT
+    }
+    
+    private final Gesture gesture1;
+    private final Gesture gesture2;
+    private final int winner;
+    private final Reason reason;
+    private final String player1Name;
+    private final String player2Name;
+    private volatile String message;
+    
+    RoundOutcome(Gesture gesture1, Gesture gesture2, int winner, Reason reason,
+                 String player1Name, String player2Name) {
+        this.gesture1 = gesture1;
+        this.gesture2 = gesture2;
+        this.winner = winner;
+        this.reason = reason;
+        this.player1Name = player1Name;
+        this.player2Name = player2Name;
+    }
+    
+    /**
+     * Build the outcome for a pair of gestures, either of which may be null (forfeit)
+     */
+    static RoundOutcome resolve(Gesture gesture1, Gesture gesture2,
+                                String player1Name, String player2Name) {
+        if (gesture1 == null && gesture2 == null) {
+            return new RoundOutcome(null, null, 0, Reason.DOUBLE_FORFEIT, player1Name, player2Name);
+        } else if (gesture1 == null) {
+            return new RoundOutcome(null, gesture2, 2, Reason.FORFEIT, player1Name, player2Name);
+        } else if (gesture2 == null) {
+            return new RoundOutcome(gesture1, null, 1, Reason.FORFEIT, player1Name, player2Name);
+        }
+        int winner = Gesture.outcome(gesture1, gesture2);
+        Reason reason = winner == 0 ? Reason.DRAW : Reason.WIN;
+        return new RoundOutcome(gesture1, gesture2, winner, reason, player1Name, player2Name);
+    }
+    
+    public Gesture getGesture1() {
+        return gesture1;
+    }
+    
+    public Gesture getGesture2() {
+        return gesture2;
+    }
+    
+    /**
+     * Get the round winner
+     * @return 1 if player 1 wins, 2 if player 2 wins, 0 if draw
+     */
+    public int getWinner() {
+        return winner;
+    }
+    
+    public Reason getReason() {
+        return reason;
+    }
+    
+    /**
+     * Get the display text, rendered on first use and cached
+     * @return Message such as "Rock beats Scissors"
+     */
+    public String getMessage() {
+        String text = message;
+        if (text == null) {
+            text = render();
+            message = text;
+        }
+        return text;
+    }
+    
+    private String render() {
+        switch (reason) {
+            case DOUBLE_FORFEIT:
+                return Messages.get("round.forfeit.both", "Both players forfeited!");
+            case FORFEIT:
+                return Messages.format("round.forfeit", "{0} forfeited!",
+                                       winner == 1 ? player2Name : player1Name);
+            case DRAW:
+                return Messages.get("round.draw", "It's a tie!");
+            default:
+                Gesture winning = winner == 1 ? gesture1 : gesture2;
+                Gesture losing = winner == 1 ? gesture2 : gesture1;
+                return Messages.format("round.win", "{0} beats {1}",
+                                       winning.getDisplayName(), losing.getDisplayName());
+        }
+    }
+    
+    @Override
+    public String toString() {
+        return getMessage();
+    }
+}
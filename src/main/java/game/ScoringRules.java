@@ -0,0 +1,300 @@
+package game;
+
+import util.GameConfig;
+import java.util.Arrays;
+
+/**
+ * Match scoring rules: points per round, handicaps, a winning margin and sudden death.
+ * The rules are read once from game.properties (game.scoring.*) and compiled into
+ * per-outcome tables indexed like GameEngine's outcome table, where index 0 is a
+ * forfeit and index g + 1 is the gesture with ordinal g. Scoring a round is then a
+ * handful of array reads and additions, whichever rules are configured.
+ * STANDARD reproduces the classic rules: one point per win and the first player to
+ * win a majority of maxRounds takes the match.
+ */
+public final class ScoringRules {
+    /** Row length of the per-outcome tables; initialized before the instances below */
+    static final int STRIDE = Gesture.values().length + 1;
+    
+    public static final ScoringRules STANDARD = new ScoringRules(1, 0, null, 0, 0, 0, 1, 0);
+    
+    private static final ScoringRules DEFAULT = fromConfig(GameConfig.getDefault());
+    
+    private final int winPoints;
+    private final int drawPoints;
+    private final int[] gesturePoints;
+    private final int player1Handicap;
+    private final int player2Handicap;
+    private final int targetScore;
+    private final int winMargin;
+    private final int suddenDeathRounds;
+    
+    // Compiled tables, one entry per (gesture1, gesture2) cell
+    private final byte[] player1Wins;
+    private final byte[] player2Wins;
+    private final byte[] draws;
+    private final int[] player1Points;
+    private final int[] player2Points;
+    
+    /**
+     * Create a rule set
+     * @param winPoints Points for winning a round
+     * @param drawPoints Points each player gets for a drawn round (not for a double forfeit)
+     * @param gesturePoints Points for winning a round with each gesture, by ordinal,
+     *                      or null to award winPoints for every gesture
+     * @param player1Handicap Points player 1 starts with
+     * @param player2Handicap Points player 2 starts with
+     * @param targetScore Points that win the match, or 0 for a majority of the rounds' win points
+     * @param winMargin Lead needed to win the match, for example 2 for win-by-two
+     * @param suddenDeathRounds Extra rounds played after maxRounds until a player leads by winMargin
+     */
+    public ScoringRules(int winPoints, int drawPoints, int[] gesturePoints, int player1Handicap,
+                        int player2Handicap, int targetScore, int winMargin, int suddenDeathRounds) {
+        Gesture[] gestures = Gesture.values();
+        if (gesturePoints == null) {
+            gesturePoints = new int[gestures.length];
+            Arrays.fill(gesturePoints, winPoints);
+        } else if (gesturePoints.length != gestures.length) {
+            throw new IllegalArgumentException("gesturePoints needs one entry per gesture");
+        }
+        if (winPoints < 1 || drawPoints < 0 || player1Handicap < 0 || player2Handicap < 0 || targetScore < 0) {
+            throw new IllegalArgumentException("Points must not be negative and a win must score");
+        }
+        for (int points : gesturePoints) {
+            if (points < 1) {
+                throw new IllegalArgumentException("A win with any gesture must score");
+            }
+        }
+        if (winMargin < 1) {
+            throw new IllegalArgumentException("winMargin must be at least 1");
+        }
+        if (suddenDeathRounds < 0) {
+            throw new IllegalArgumentException("suddenDeathRounds must not be negative");
+        }
+        this.winPoints = winPoints;
+        this.drawPoints = drawPoints;
+        this.gesturePoints = gesturePoints.clone();
+        this.player1Handicap = player1Handicap;
+        this.player2Handicap = player2Handicap;
+        this.targetScore = targetScore;
+        this.winMargin = winMargin;
+        this.suddenDeathRounds = suddenDeathRounds;
+        
+        player1Wins = new byte[STRIDE * STRIDE];
+        player2Wins = new byte[STRIDE * STRIDE];
+        draws = new byte[STRIDE * STRIDE];
+        player1Points = new int[STRIDE * STRIDE];
+        player2Points = new int[STRIDE * STRIDE];
+        for (int i = 0; i < STRIDE; i++) {
+            for (int j = 0; j < STRIDE; j++) {
+                Gesture gesture1 = i == 0 ? null : gestures[i - 1];
+                Gesture gesture2 = j == 0 ? null : gestures[j - 1];
+                int cell = i * STRIDE + j;
+                int winner;
+                if (gesture1 == null && gesture2 == null) {
+                    winner = 0;
+                } else if (gesture1 == null) {
+                    winner = 2;
+                } else if (gesture2 == null) {
+                    winner = 1;
+                } else {
+                    winner = Gesture.outcome(gesture1, gesture2);
+                }
+                
+                if (winner == 1) {
+                    player1Wins[cell] = 1;
+                    player1Points[cell] = this.gesturePoints[gesture1.ordinal()];
+                } else if (winner == 2) {
+                    player2Wins[cell] = 1;
+                    player2Points[cell] = this.gesturePoints[gesture2.ordinal()];
+                } else {
+                    draws[cell] = 1;
+                    // Nobody earns points when neither player threw
+                    int points = gesture1 == null ? 0 : drawPoints;
+                    player1Points[cell] = points;
+                    player2Points[cell] = points;
+                }
+            }
+        }
+    }
+    
+    /**
+     * Get the rules configured in the bundled game.properties
+     * @return The shared default rules
+     */
+    public static ScoringRules getDefault() {
+        return DEFAULT;
+    }
+    
+    /**
+     * Compile the game.scoring.* keys of a configuration.
+     * Missing keys take their STANDARD values; an invalid combination falls back to STANDARD.
+     * @param config The configuration
+     * @return The compiled rules
+     */
+    public static ScoringRules fromConfig(GameConfig config) {
+        int winPoints = config.getInt("game.scoring.points.win", 1);
+        Gesture[] gestures = Gesture.values();
+        int[] gesturePoints = new int[gestures.length];
+        for (Gesture gesture : gestures) {
+            gesturePoints[gesture.ordinal()] = config.getInt(
+                "game.scoring.points." + gesture.name().toLowerCase(), winPoints);
+        }
+        try {
+            return new ScoringRules(winPoints,
+                                    config.getInt("game.scoring.points.draw", 0),
+                                    gesturePoints,
+                                    config.getInt("game.scoring.handicap.player1", 0),
+                                    config.getInt("game.scoring.handicap.player2", 0),
+                                    config.getInt("game.scoring.target", 0),
+                                    config.getInt("game.scoring.win.margin", 1),
+                                    config.getInt("game.scoring.sudden.death.rounds", 0));
+        } catch (IllegalArgumentException e) {
+            System.out.println("Invalid scoring rules, using standard rules: " + e.getMessage());
+            return STANDARD;
+        }
+    }
+    
+    /**
+     * Get the points that win a match of the given length
+     * @param maxRounds Regular number of rounds
+     * @return The configured target, or the win points of a majority of the rounds
+     */
+    public int getTargetScore(int maxRounds) {
+        return targetScore > 0 ? targetScore : (maxRounds / 2 + 1) * winPoints;
+    }
+    
+    /**
+     * Check if a match is finished: a player has reached the target score with the
+     * required lead, or the regular rounds are over and either someone leads by the
+     * required margin or the sudden-death rounds are used up as well.
+     * Under STANDARD this is "one player has won the majority of rounds".
+     * Free-for-all games are scored by their FreeForAllResolver rather than these
+     * rules, so they always play exactly maxRounds.
+     * @param mode The game mode
+     * @param currentRound Rounds played so far
+     * @param maxRounds Regular number of rounds
+     * @param player1Score Player 1's score, including handicap
+     * @param player2Score Player 2's score, including handicap
+     * @return true if the match is finished, false otherwise
+     */
+    public boolean isGameFinished(GameMode mode, int currentRound, int maxRounds,
+                                  int player1Score, int player2Score) {
+        if (mode == GameMode.FREE_FOR_ALL) {
+            return currentRound >= maxRounds;
+        }
+        int lead = Math.abs(player1Score - player2Score);
+        if (lead >= winMargin
+                && (Math.max(player1Score, player2Score) >= getTargetScore(maxRounds) || currentRound >= maxRounds)) {
+            return true;
+        }
+        return currentRound >= maxRounds + suddenDeathRounds;
+    }
+    
+    /**
+     * Get the winner of a match by score
+     * @param player1Score Player 1's score
+     * @param player2Score Player 2's score
+     * @return 1 if player 1 wins, 2 if player 2 wins, 0 if draw
+     */
+    public static int getGameWinner(int player1Score, int player2Score) {
+        if (player1Score > player2Score) {
+            return 1;
+        } else if (player2Score > player1Score) {
+            return 2;
+        } else {
+            return 0; // Draw
+        }
+    }
+    
+    public int getWinPoints() {
+        return winPoints;
+    }
+    
+    public int getDrawPoints() {
+        return drawPoints;
+    }
+    
+    /**
+     * Get the points for winning a round with a gesture
+     * @param gesture The winning gesture
+     * @return Points awarded
+     */
+    public int getGesturePoints(Gesture gesture) {
+        return gesturePoints[gesture.ordinal()];
+    }
+    
+    public int getPlayer1Handicap() {
+        return player1Handicap;
+    }
+    
+    public int getPlayer2Handicap() {
+        return player2Handicap;
+    }
+    
+    public int getWinMargin() {
+        return winMargin;
+    }
+    
+    public int getSuddenDeathRounds() {
+        return suddenDeathRounds;
+    }
+    
+    /**
+     * Check if the scores follow from the win counters alone: every win scores winPoints
+     * and draws score nothing, so a score is the handicap plus winPoints per win.
+     * Under other rules the scores depend on the gestures played and on how many of
+     * the draws were double forfeits, which the counters do not record.
+     * @return true if scoresFromWins can rebuild the scores
+     */
+    boolean hasCounterScores() {
+        if (drawPoints != 0) {
+            return false;
+        }
+        for (int points : gesturePoints) {
+            if (points != winPoints) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    /**
+     * Check if these rules decide a match like STANDARD: the first player to win a
+     * majority of maxRounds takes it, and nothing else counts
+     * @return true if the rules are equivalent to STANDARD
+     */
+    boolean isMajorityRule() {
+        return hasCounterScores() && player1Handicap == 0 && player2Handicap == 0 && targetScore == 0
+            && winMargin == 1 && suddenDeathRounds == 0;
+    }
+    
+    int getPlayer1Score(int player1Wins) {
+        return player1Handicap + player1Wins * winPoints;
+    }
+    
+    int getPlayer2Score(int player2Wins) {
+        return player2Handicap + player2Wins * winPoints;
+    }
+    
+    // Table lookups by outcome cell
+    int getPlayer1Wins(int cell) {
+        return player1Wins[cell];
+    }
+    
+    int getPlayer2Wins(int cell) {
+        return player2Wins[cell];
+    }
+    
+    int getDraws(int cell) {
+        return draws[cell];
+    }
+    
+    int getPlayer1Points(int cell) {
+        return player1Points[cell];
+    }
+    
+    int getPlayer2Points(int cell) {
+        return player2Points[cell];
+    }
+}
@@ -0,0 +1,188 @@
+package game;
+
+/**
+ * Hashed timing wheel that fires countdown expiries at their deadline.
+ * One wheel serves any number of engines: scheduling and cancelling are O(1),
+ * and the owner's advance() calls fire every due timeout, so no match needs its own
+ * timer thread. Timeouts fire on the thread calling advance(), which must be the
+ * thread driving the engines whose expiries are scheduled here.
+ * Deadlines are bucketed by tick; a timeout fires on the first advance() whose
+ * clock reading has reached its deadline, so latency is bounded by how often
+ * the wheel is advanced.
+ */
+public class TimingWheel {
+    private final GameClock clock;
+    private final long tickMillis;
+    private final Timeout[] buckets;
+    private final int mask;
+    private long nextTick;
+    private int size;
+    
+    /**
+     * Create a wheel
+     * @param clock Clock the deadlines refer to
+     * @param tickMillis Width of one bucket in milliseconds
+     * @param wheelSize Number of buckets, rounded up to a power of two
+     */
+    public TimingWheel(GameClock clock, long tickMillis, int wheelSize) {
+        if (tickMillis <= 0) {
+            throw new IllegalArgumentException("tickMillis must be positive");
+        }
+        if (wheelSize <= 0 || wheelSize > (1 << 30)) {
+            throw new IllegalArgumentException("wheelSize must be between 1 and 2^30");
+        }
+        int buckets = Integer.highestOneBit(wheelSize);
+        if (buckets < wheelSize) {
+            buckets <<= 1;
+        }
+        this.clock = clock;
+        this.tickMillis = tickMillis;
+        this.buckets = new Timeout[buckets];
+        this.mask = buckets - 1;
+        this.nextTick = Math.floorDiv(clock.currentTimeMillis(), tickMillis);
+    }
+    
+    /**
+     * Schedule a timeout, moving it if it is already scheduled, possibly on another wheel.
+     * A deadline that has already passed fires on the next advance().
+     * A timeout must not be scheduled from two threads at once.
+     * @param timeout The timeout to schedule
+     * @param deadline Deadline in clock milliseconds
+     */
+    public void schedule(Timeout timeout, long deadline) {
+        // Leave the other wheel before locking this one, so that two wheels moving
+        // timeouts towards each other never wait for each other's lock
+        TimingWheel other = timeout.wheel;
+        if (other != null && other != this) {
+            other.cancel(timeout);
+        }
+        insert(timeout, deadline);
+    }
+    
+    private synchronized void insert(Timeout timeout, long deadline) {
+        if (timeout.wheel == this) {
+            unlink(timeout);
+        }
+        long tick = Math.max(Math.floorDiv(deadline, tickMillis), nextTick);
+        int index = (int) (tick & mask);
+        
+        timeout.deadline = deadline;
+        timeout.bucket = index;
+        timeout.wheel = this;
+        timeout.prev = null;
+        timeout.next = buckets[index];
+        if (buckets[index] != null) {
+            buckets[index].prev = timeout;
+        }
+        buckets[index] = timeout;
+        size++;
+    }
+    
+    /**
+     * Cancel a scheduled timeout
+     * @param timeout The timeout to cancel
+     * @return true if it was scheduled on this wheel
+     */
+    public synchronized boolean cancel(Timeout timeout) {
+        if (timeout.wheel != this) {
+            return false;
+        }
+        unlink(timeout);
+        return true;
+    }
+    
+    /**
+     * Fire every timeout whose deadline has been reached by the clock.
+     * Tasks run on the calling thread while the wheel is locked, so they must be short
+     * and may only schedule or cancel timeouts on this wheel.
+     * @return Number of timeouts fired
+     */
+    public synchronized int advance() {
+        long now = clock.currentTimeMillis();
+        long nowTick = Math.floorDiv(now, tickMillis);
+        if (nowTick < nextTick) {
+            return 0;
+        }
+        
+        // Past the full circle every bucket has been visited once
+        long lastTick = Math.min(nowTick, nextTick + mask);
+        int fired = 0;
+        for (long tick = nextTick; tick <= lastTick; tick++) {
+            fired += expire((int) (tick & mask), now);
+        }
+        // The current tick may still hold deadlines later in the same tick
+        nextTick = nowTick;
+        return fired;
+    }
+    
+    private int expire(int index, long now) {
+        int fired = 0;
+        Timeout timeout = buckets[index];
+        while (timeout != null) {
+            Timeout next = timeout.next;
+            if (timeout.deadline <= now) {
+                unlink(timeout);
+                fired++;
+                timeout.task.run();
+                // The task may have cancelled or moved the next timeout, or rescheduled
+                // into this bucket; restart from its head
+                if (next != null && (next.wheel != this || next.bucket != index)) {
+                    next = buckets[index];
+                }
+            }
+            timeout = next;
+        }
+        return fired;
+    }
+    
+    private void unlink(Timeout timeout) {
+        if (timeout.prev != null) {
+            timeout.prev.next = timeout.next;
+        } else {
+            buckets[timeout.bucket] = timeout.next;
+        }
+        if (timeout.next != null) {
+            timeout.next.prev = timeout.prev;
+        }
+        timeout.prev = null;
+        timeout.next = null;
+        timeout.wheel = null;
+        size--;
+    }
+    
+    /**
+     * Get the number of scheduled timeouts
+     * @return Pending timeout count
+     */
+    public synchronized int size() {
+        return size;
+    }
+    
+    public long getTickMillis() {
+        return tickMillis;
+    }
+    
+    /**
+     * A reusable timeout entry. Rescheduling the same entry avoids allocating per round.
+     */
+    public static class Timeout {
+        private final Runnable task;
+        private long deadline;
+        private int bucket;
+        private TimingWheel wheel;
+        private Timeout prev;
+        private Timeout next;
+        
+        public Timeout(Runnable task) {
+            this.task = task;
+        }
+        
+        public long getDeadline() {
+            return deadline;
+        }
+        
+        public boolean isScheduled() {
+            return wheel != null;
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package game;
+
+/**
+ * Manually advanced clock for simulations and deterministic tests.
+ * Time only moves when advance() or setTime() is called.
+ */
+public class VirtualClock implements GameClock {
+    private long now;
+    
+    public VirtualClock() {
+        this(0);
+    }
+    
+    public VirtualClock(long startTime) {
+        this.now = startTime;
+    }
+    
+    @Override
+    public long currentTimeMillis() {
+        return now;
+    }
+    
+    /**
+     * Move the clock forward
+     * @param millis Milliseconds to advance, must not be negative
+     */
+    public void advance(long millis) {
+        if (millis < 0) {
+            throw new IllegalArgumentException("Cannot move the clock backwards");
+        }
+        now += millis;
+    }
+    
+    /**
+     * Jump to an absolute time
+     * @param time New time in milliseconds, must not be earlier than the current time
+     */
+    public void setTime(long time) {
+        if (time < now) {
+            throw new IllegalArgumentException("Cannot move the clock backwards");
+        }
+        now = time;
+    }
+}
@@ -1,22 +1,172 @@
 package player;
 
 import game.Gesture;
-import java.util.ArrayList;
-import java.util.List;
-import java.util.Map;
-import java.util.HashMap;
+import util.GameConfig;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
 
 /**
  * Represents a computer player with intelligent decision making
  */
 public class ComputerPlayer extends Player {
-    private List<Gesture> opponentHistory;
-    private int difficulty; // 0 = random, 1 = basic pattern, 2 = advanced pattern
+    /** Highest difficulty level */
+    public static final int MAX_DIFFICULTY = 4;
+    
+    /**
+     * Default recency half-life of the advanced pattern model, in rounds (ai.hard.recency.halflife).
+     * ln 2 / ln 1.2 makes each gesture weigh 1.2 times the one before it.
+     */
+    public static final double DEFAULT_RECENCY_HALF_LIFE =
+        GameConfig.getDefault().getDouble("ai.hard.recency.halflife", Math.log(2) / Math.log(1.2));
+    
+    /**
+     * Opponent gestures remembered at each difficulty (ai.easy/medium/hard/expert/master.history.capacity).
+     * Counters and weights still cover the whole game; only the raw sequence is bounded.
+     */
+    private static final int[] DEFAULT_HISTORY_CAPACITY = {
+        GameConfig.getDefault().getInt("ai.easy.history.capacity", 64),
+        GameConfig.getDefault().getInt("ai.medium.history.capacity", 1024),
+        GameConfig.getDefault().getInt("ai.hard.history.capacity", 4096),
+        GameConfig.getDefault().getInt("ai.expert.history.capacity", 4096),
+        GameConfig.getDefault().getInt("ai.master.history.capacity", 4096)
+    };
+    
+    /** Longest context of the expert difficulty's Markov model (ai.expert.markov.order) */
+    public static final int DEFAULT_MARKOV_ORDER = Math.max(1, Math.min(MarkovPredictor.MAX_ORDER,
+        GameConfig.getDefault().getInt("ai.expert.markov.order", 4)));
+    
+    /** Longest history the master difficulty's suffix automaton indexes (ai.master.automaton.capacity) */
+    public static final int DEFAULT_AUTOMATON_CAPACITY =
+        Math.max(2, GameConfig.getDefault().getInt("ai.master.automaton.capacity", 65536));
+    
+    /** Recency weights are scaled back down once the next increment exceeds this */
+    private static final double RENORMALIZE_THRESHOLD = 0x1p64;
+    
+    private final GestureRingBuffer opponentHistory; // latest gestures, shared copy-on-write with forks
+    private final int[] opponentCounts; // occurrences of each gesture this game, by ordinal
+    private final double[] opponentWeights; // recency-weighted occurrences, by ordinal
+    private double opponentTotalWeight;
+    private double recencyIncrement; // weight the next observed gesture adds
+    private double recencyGrowth; // 2^(1 / half-life)
+    private final MarkovPredictor markov; // expert difficulty only, otherwise null
+    private final SuffixAutomatonPredictor automaton; // master difficulty only, otherwise null
+    private int difficulty; // 0 = random, 1 = basic pattern, 2 = advanced pattern, 3 = Markov chain, 4 = suffix automaton
+    private final Random random; // null = ThreadLocalRandom
     
     public ComputerPlayer(String name, int difficulty) {
+        this(name, difficulty, null);
+    }
+    
+    /**
+     * Create a computer player that draws all its randomness from one source,
+     * so that a seeded Random makes its choices reproducible
+     * @param name Player name
+     * @param difficulty Difficulty level (0-4)
+     * @param random Source of randomness, or null for ThreadLocalRandom
+     */
+    public ComputerPlayer(String name, int difficulty, Random random) {
+        this(name, difficulty, random, DEFAULT_HISTORY_CAPACITY[clampDifficulty(difficulty)]);
+    }
+    
+    /**
+     * Create a computer player with an explicit bound on its opponent history
+     * @param name Player name
+     * @param difficulty Difficulty level (0-4)
+     * @param random Source of randomness, or null for ThreadLocalRandom
+     * @param historyCapacity Number of opponent gestures remembered, at least 2
+     */
+    public ComputerPlayer(String name, int difficulty, Random random, int historyCapacity) {
         super(name);
-        this.opponentHistory = new ArrayList<>();
-        this.difficulty = Math.max(0, Math.min(2, difficulty)); // Clamp between 0-2
+        if (historyCapacity < 2) {
+            throw new IllegalArgumentException("historyCapacity must be at least 2");
+        }
+        this.opponentHistory = new GestureRingBuffer(historyCapacity);
+        this.opponentCounts = new int[Gesture.values().length];
+        this.opponentWeights = new double[Gesture.values().length];
+        this.recencyIncrement = 1;
+        this.difficulty = clampDifficulty(difficulty);
+        this.markov = this.difficulty == 3 ? new MarkovPredictor(DEFAULT_MARKOV_ORDER) : null;
+        this.automaton = this.difficulty == 4 ? new SuffixAutomatonPredictor(DEFAULT_AUTOMATON_CAPACITY) : null;
+        this.random = random;
+        setRecencyHalfLife(DEFAULT_RECENCY_HALF_LIFE);
+    }
+    
+    private static int clampDifficulty(int difficulty) {
+        return Math.max(0, Math.min(MAX_DIFFICULTY, difficulty));
+    }
+    
+    private ComputerPlayer(ComputerPlayer source, Random random) {
+        super(source);
+        this.opponentHistory = source.opponentHistory.fork();
+        this.opponentCounts = source.opponentCounts.clone();
+        this.opponentWeights = source.opponentWeights.clone();
+        this.opponentTotalWeight = source.opponentTotalWeight;
+        this.recencyIncrement = source.recencyIncrement;
+        this.recencyGrowth = source.recencyGrowth;
+        this.difficulty = source.difficulty;
+        this.markov = source.markov == null ? null : source.markov.fork();
+        this.automaton = source.automaton == null ? null : source.automaton.fork();
+        this.random = random;
+    }
+    
+    /**
+     * Fork this player. The fork shares the opponent history with this player
+     * until either of them observes another gesture, and shares its source of randomness;
+     * only the per-gesture counters and weights are copied up front.
+     * @return An independent copy
+     */
+    @Override
+    public ComputerPlayer fork() {
+        return new ComputerPlayer(this, random);
+    }
+    
+    /**
+     * Fork this player with its own source of randomness, so that branches
+     * played from the same point can diverge reproducibly
+     * @param random Source of randomness, or null for ThreadLocalRandom
+     * @return An independent copy
+     */
+    public ComputerPlayer fork(Random random) {
+        return new ComputerPlayer(this, random);
+    }
+    
+    /**
+     * Get the latest opponent gestures of this game, up to the history capacity
+     * @return Live read-only view of the history
+     */
+    public GestureRingBuffer getOpponentHistory() {
+        return opponentHistory;
+    }
+    
+    /**
+     * Get how often the opponent has thrown a gesture this game
+     * @param gesture The gesture
+     * @return Occurrence count
+     */
+    public int getOpponentCount(Gesture gesture) {
+        return opponentCounts[gesture.ordinal()];
+    }
+    
+    /**
+     * Get the recency-weighted share of a gesture in the opponent's history
+     * @param gesture The gesture
+     * @return Share between 0 and 1, or 0 if nothing was observed yet
+     */
+    public double getOpponentWeight(Gesture gesture) {
+        return opponentTotalWeight == 0 ? 0 : opponentWeights[gesture.ordinal()] / opponentTotalWeight;
+    }
+    
+    /**
+     * Set how fast the advanced pattern model forgets: a gesture observed halfLife
+     * rounds ago counts half as much as the latest one
+     * @param halfLife Half-life in rounds
+     */
+    public void setRecencyHalfLife(double halfLife) {
+        if (!(halfLife > 0) || Double.isInfinite(halfLife)) {
+            throw new IllegalArgumentException("Half-life must be positive and finite");
+        }
+        this.recencyGrowth = Math.pow(2, 1 / halfLife);
     }
     
     /**
@@ -25,8 +175,42 @@ public class ComputerPlayer extends Player {
      */
     public void addOpponentGestureToHistory(Gesture gesture) {
         if (gesture != null) {
-            opponentHistory.add(gesture);
+            opponentHistory.append(gesture);
+            opponentCounts[gesture.ordinal()]++;
+            if (markov != null) {
+                markov.observe(gesture.ordinal());
+            }
+            if (automaton != null) {
+                automaton.observe(gesture.ordinal());
+            }
+            
+            // Rather than decaying every old weight, let new weights grow by 2^(1 / half-life)
+            // and scale everything down once they get large; only ratios matter
+            opponentWeights[gesture.ordinal()] += recencyIncrement;
+            opponentTotalWeight += recencyIncrement;
+            recencyIncrement *= recencyGrowth;
+            if (recencyIncrement > RENORMALIZE_THRESHOLD) {
+                renormalizeWeights();
+            }
+        }
+    }
+    
+    /**
+     * Divide all recency weights by the next increment, which becomes 1 again.
+     * Weights too old to matter underflow to 0 instead of the newest overflowing.
+     */
+    private void renormalizeWeights() {
+        double scale = recencyIncrement;
+        for (int i = 0; i < opponentWeights.length; i++) {
+            opponentWeights[i] /= scale;
         }
+        opponentTotalWeight /= scale;
+        recencyIncrement = 1;
+    }
+    
+    @Override
+    public void observeOpponentGesture(Gesture gesture) {
+        addOpponentGestureToHistory(gesture);
     }
     
     /**
@@ -42,6 +226,10 @@ public class ComputerPlayer extends Player {
                 return makeBasicPatternChoice();
             case 2:
                 return makeAdvancedPatternChoice();
+            case 3:
+                return makeMarkovChoice();
+            case 4:
+                return makeSuffixMatchChoice();
             default:
                 return makeRandomChoice();
         }
@@ -52,7 +240,7 @@ public class ComputerPlayer extends Player {
      * @return Random gesture
      */
     private Gesture makeRandomChoice() {
-        return Gesture.random();
+        return random == null ? Gesture.random() : Gesture.random(random);
     }
     
     /**
@@ -64,24 +252,18 @@ public class ComputerPlayer extends Player {
             return makeRandomChoice();
         }
         
-        // Count frequency of each gesture
-        Map<Gesture, Integer> frequencies = new HashMap<>();
-        for (Gesture gesture : opponentHistory) {
-            frequencies.put(gesture, frequencies.getOrDefault(gesture, 0) + 1);
-        }
-        
-        // Find most frequent gesture
-        Gesture mostFrequent = Gesture.ROCK;
+        // Find most frequent gesture from the running counters: O(1), no allocation
+        int mostFrequent = 0;
         int maxCount = 0;
-        for (Map.Entry<Gesture, Integer> entry : frequencies.entrySet()) {
-            if (entry.getValue() > maxCount) {
-                maxCount = entry.getValue();
-                mostFrequent = entry.getKey();
+        for (int i = 0; i < opponentCounts.length; i++) {
+            if (opponentCounts[i] > maxCount) {
+                maxCount = opponentCounts[i];
+                mostFrequent = i;
             }
         }
         
         // Return gesture that beats the most frequent
-        return getCounterGesture(mostFrequent);
+        return getCounterGesture(Gesture.fromOrdinal(mostFrequent));
     }
     
     /**
@@ -90,53 +272,70 @@ public class ComputerPlayer extends Player {
      * @return Strategically chosen gesture
      */
     private Gesture makeAdvancedPatternChoice() {
-        if (opponentHistory.size() < 3) {
+        if (opponentHistory.getTotal() < 3) {
             return makeBasicPatternChoice();
         }
         
-        // Weight recent gestures more heavily
-        Map<Gesture, Double> weights = new HashMap<>();
-        double totalWeight = 0;
-        
-        for (int i = 0; i < opponentHistory.size(); i++) {
-            Gesture gesture = opponentHistory.get(i);
-            // Recent gestures get more weight
-            double weight = Math.pow(1.2, i);
-            weights.put(gesture, weights.getOrDefault(gesture, 0.0) + weight);
-            totalWeight += weight;
-        }
+        // Weight recent gestures more heavily, from the incrementally maintained weights
+        double totalWeight = opponentTotalWeight;
         
         // Look for the last few gestures to predict next one
-        if (opponentHistory.size() >= 2) {
-            Gesture lastGesture = opponentHistory.get(opponentHistory.size() - 1);
-            Gesture secondLastGesture = opponentHistory.get(opponentHistory.size() - 2);
-            
-            // If opponent is alternating, predict the next in sequence
-            if (lastGesture != secondLastGesture) {
-                // Add extra weight to the gesture that would continue the pattern
-                Gesture predictedNext = predictNextInSequence(secondLastGesture, lastGesture);
-                if (predictedNext != null) {
-                    weights.put(predictedNext, weights.getOrDefault(predictedNext, 0.0) + totalWeight * 0.3);
-                }
-            }
+        Gesture predictedNext = null;
+        Gesture lastGesture = opponentHistory.get(0);
+        Gesture secondLastGesture = opponentHistory.get(1);
+        
+        // If opponent is alternating, predict the next in sequence
+        if (lastGesture != secondLastGesture) {
+            // Add extra weight to the gesture that would continue the pattern
+            predictedNext = predictNextInSequence(secondLastGesture, lastGesture);
         }
         
         // Find the gesture with highest weight
-        Gesture mostLikely = Gesture.ROCK;
+        int predicted = predictedNext == null ? -1 : predictedNext.ordinal();
+        int mostLikely = 0;
         double maxWeight = 0;
-        for (Map.Entry<Gesture, Double> entry : weights.entrySet()) {
-            if (entry.getValue() > maxWeight) {
-                maxWeight = entry.getValue();
-                mostLikely = entry.getKey();
+        for (int i = 0; i < opponentWeights.length; i++) {
+            double weight = opponentWeights[i];
+            if (i == predicted) {
+                weight += totalWeight * 0.3;
+            }
+            if (weight > maxWeight) {
+                maxWeight = weight;
+                mostLikely = i;
             }
         }
         
         // Add some randomness to avoid being too predictable
-        if (Math.random() < 0.2) { // 20% chance of random choice
+        double roll = random == null ? ThreadLocalRandom.current().nextDouble() : random.nextDouble();
+        if (roll < 0.2) { // 20% chance of random choice
             return makeRandomChoice();
         }
         
-        return getCounterGesture(mostLikely);
+        return getCounterGesture(Gesture.fromOrdinal(mostLikely));
+    }
+    
+    /**
+     * Make choice based on an order-1 to order-k Markov model of the opponent
+     * @return Gesture that counters the best-supported prediction
+     */
+    private Gesture makeMarkovChoice() {
+        int predicted = markov.predict();
+        if (predicted < 0) {
+            return makeBasicPatternChoice();
+        }
+        return getCounterGesture(Gesture.fromOrdinal(predicted));
+    }
+    
+    /**
+     * Make choice based on the longest earlier repetition of the opponent's recent gestures
+     * @return Gesture that counters what followed that repetition
+     */
+    private Gesture makeSuffixMatchChoice() {
+        int predicted = automaton.predict();
+        if (predicted < 0) {
+            return makeBasicPatternChoice();
+        }
+        return getCounterGesture(Gesture.fromOrdinal(predicted));
     }
     
     /**
@@ -173,16 +372,7 @@ public class ComputerPlayer extends Player {
      * @return The counter gesture
      */
     private Gesture getCounterGesture(Gesture gesture) {
-        switch (gesture) {
-            case ROCK:
-                return Gesture.PAPER;
-            case PAPER:
-                return Gesture.SCISSORS;
-            case SCISSORS:
-                return Gesture.ROCK;
-            default:
-                return Gesture.random();
-        }
+        return gesture.counter();
     }
     
     /**
@@ -197,14 +387,25 @@ public class ComputerPlayer extends Player {
     /**
      * Reset for a completely new game
      */
+    @Override
     public void resetForNewGame() {
         resetForNewRound();
         opponentHistory.clear();
+        Arrays.fill(opponentCounts, 0);
+        Arrays.fill(opponentWeights, 0);
+        opponentTotalWeight = 0;
+        recencyIncrement = 1;
+        if (markov != null) {
+            markov.clear();
+        }
+        if (automaton != null) {
+            automaton.clear();
+        }
     }
     
     /**
      * Get difficulty level
-     * @return The difficulty level (0-2)
+     * @return The difficulty level (0-4)
      */
     public int getDifficulty() {
         return difficulty;
@@ -222,6 +423,10 @@ public class ComputerPlayer extends Player {
                 return "Medium (Basic Pattern)";
             case 2:
                 return "Hard (Advanced Pattern)";
+            case 3:
+                return "Expert (Markov Chain)";
+            case 4:
+                return "Master (Sequence Matching)";
             default:
                 return "Unknown";
         }
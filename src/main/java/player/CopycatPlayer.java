@@ -0,0 +1,57 @@
+package player;
+
+import game.Gesture;
+import java.util.Random;
+
+/**
+ * Scripted opponent that throws whatever its opponent threw last round.
+ * The first round of each game is random.
+ */
+public class CopycatPlayer extends Player {
+    private final Random random; // null = ThreadLocalRandom
+    private Gesture lastOpponentGesture;
+    
+    public CopycatPlayer(String name) {
+        this(name, null);
+    }
+    
+    /**
+     * Create a copycat with its own source of randomness for opening moves
+     * @param name Player name
+     * @param random Source of randomness, or null for ThreadLocalRandom
+     */
+    public CopycatPlayer(String name, Random random) {
+        super(name);
+        this.random = random;
+    }
+    
+    private CopycatPlayer(CopycatPlayer source) {
+        super(source);
+        this.random = source.random;
+        this.lastOpponentGesture = source.lastOpponentGesture;
+    }
+    
+    @Override
+    public CopycatPlayer fork() {
+        return new CopycatPlayer(this);
+    }
+    
+    @Override
+    public Gesture makeChoice() {
+        if (lastOpponentGesture != null) {
+            return lastOpponentGesture;
+        }
+        return random == null ? Gesture.random() : Gesture.random(random);
+    }
+    
+    @Override
+    public void observeOpponentGesture(Gesture gesture) {
+        lastOpponentGesture = gesture;
+    }
+    
+    @Override
+    public void resetForNewGame() {
+        super.resetForNewGame();
+        lastOpponentGesture = null;
+    }
+}
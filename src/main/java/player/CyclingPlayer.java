@@ -0,0 +1,48 @@
+package player;
+
+import game.Gesture;
+
+/**
+ * Scripted opponent that repeats a fixed sequence of gestures, restarting every game
+ */
+public class CyclingPlayer extends Player {
+    private final Gesture[] sequence;
+    private int position;
+    
+    /**
+     * Create a cycler
+     * @param name Player name
+     * @param sequence Gestures to throw in order, for example ROCK, PAPER, SCISSORS
+     */
+    public CyclingPlayer(String name, Gesture... sequence) {
+        super(name);
+        if (sequence.length == 0) {
+            throw new IllegalArgumentException("Sequence must not be empty");
+        }
+        this.sequence = sequence.clone();
+    }
+    
+    private CyclingPlayer(CyclingPlayer source) {
+        super(source);
+        this.sequence = source.sequence;
+        this.position = source.position;
+    }
+    
+    @Override
+    public CyclingPlayer fork() {
+        return new CyclingPlayer(this);
+    }
+    
+    @Override
+    public Gesture makeChoice() {
+        Gesture gesture = sequence[position];
+        position = (position + 1) % sequence.length;
+        return gesture;
+    }
+    
+    @Override
+    public void resetForNewGame() {
+        super.resetForNewGame();
+        position = 0;
+    }
+}
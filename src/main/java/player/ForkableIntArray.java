@@ -0,0 +1,258 @@
+package player;
+
+import java.util.Arrays;
+
+/**
+ * Int table with O(1) forks, for the learned tables of the computer player's predictors.
+ * Until it is first forked it is a plain array. Forking freezes the current contents:
+ * from then on each copy keeps its own writes in a small hash map layered over the frozen
+ * array and the frozen writes of its ancestors, so a branch allocates in proportion to
+ * the entries it writes instead of copying the whole table. A copy whose layered writes
+ * outgrow half the table is flattened back into a plain array of its own, and chains of
+ * forks of forks are merged every MAX_DEPTH levels, which keeps reads amortized O(1).
+ */
+final class ForkableIntArray {
+    private static final int MAX_DEPTH = 8;
+    
+    private int[] base; // owned and writable while writes is null, frozen otherwise
+    private int length;
+    private Layer layers; // frozen writes of the ancestors, newest first
+    private IntMap writes; // this copy's writes since base was frozen, or null while base is owned
+    
+    /**
+     * Create a table of zeros
+     * @param length Number of entries
+     */
+    ForkableIntArray(int length) {
+        this.base = new int[length];
+        this.length = length;
+    }
+    
+    private ForkableIntArray(ForkableIntArray source) {
+        this.base = source.base;
+        this.length = source.length;
+        this.layers = source.layers;
+        this.writes = new IntMap();
+    }
+    
+    /**
+     * Copy this table in O(1); both copies layer their later writes over the shared contents
+     */
+    ForkableIntArray fork() {
+        if (writes == null) {
+            writes = new IntMap();
+        } else if (writes.size() > 0) {
+            layers = new Layer(layers, writes);
+            writes = new IntMap();
+            if (layers.depth > MAX_DEPTH) {
+                layers = layers.merge();
+            }
+        }
+        return new ForkableIntArray(this);
+    }
+    
+    int length() {
+        return length;
+    }
+    
+    int get(int index) {
+        if (writes == null) {
+            return base[index];
+        }
+        int slot = writes.find(index);
+        if (slot >= 0) {
+            return writes.valueAt(slot);
+        }
+        for (Layer layer = layers; layer != null; layer = layer.parent) {
+            slot = layer.writes.find(index);
+            if (slot >= 0) {
+                return layer.writes.valueAt(slot);
+            }
+        }
+        return index < base.length ? base[index] : 0;
+    }
+    
+    void set(int index, int value) {
+        if (writes == null) {
+            base[index] = value;
+            return;
+        }
+        writes.put(index, value);
+        if (writes.size() + (layers == null ? 0 : layers.entries) > length / 2) {
+            flatten();
+        }
+    }
+    
+    void increment(int index) {
+        if (writes == null) {
+            base[index]++;
+        } else {
+            set(index, get(index) + 1);
+        }
+    }
+    
+    /**
+     * Lengthen the table; the new entries read 0
+     * @param newLength New number of entries, at least length()
+     */
+    void grow(int newLength) {
+        if (writes == null) {
+            base = Arrays.copyOf(base, newLength);
+        }
+        length = newLength;
+    }
+    
+    /**
+     * Set every entry to 0
+     * @param newLength Number of entries from now on
+     */
+    void clear(int newLength) {
+        if (writes == null && base.length == newLength) {
+            Arrays.fill(base, 0);
+        } else {
+            base = new int[newLength];
+            layers = null;
+            writes = null;
+        }
+        length = newLength;
+    }
+    
+    /**
+     * Copy the layered contents into an array of its own
+     */
+    private void flatten() {
+        int[] flat = Arrays.copyOf(base, length);
+        if (layers != null) {
+            layers.merge().writes.copyInto(flat);
+        }
+        writes.copyInto(flat);
+        base = flat;
+        layers = null;
+        writes = null;
+    }
+    
+    /**
+     * Writes of one frozen generation
+     */
+    private static final class Layer {
+        final Layer parent;
+        final IntMap writes;
+        final int depth;
+        final int entries; // writes in this layer and its ancestors
+        
+        Layer(Layer parent, IntMap writes) {
+            this.parent = parent;
+            this.writes = writes;
+            this.depth = parent == null ? 1 : parent.depth + 1;
+            this.entries = (parent == null ? 0 : parent.entries) + writes.size();
+        }
+        
+        /**
+         * Combine this layer and its ancestors into a single new layer
+         */
+        Layer merge() {
+            Layer[] chain = new Layer[depth];
+            int count = 0;
+            for (Layer layer = this; layer != null; layer = layer.parent) {
+                chain[count++] = layer;
+            }
+            IntMap merged = new IntMap();
+            // Oldest first, so that newer writes win
+            for (int i = count - 1; i >= 0; i--) {
+                merged.putAll(chain[i].writes);
+            }
+            return new Layer(null, merged);
+        }
+    }
+    
+    /**
+     * Open-addressing map from table index to value
+     */
+    private static final class IntMap {
+        private static final int[] EMPTY = new int[0];
+        
+        private int[] keys = EMPTY; // index + 1, 0 for a free slot
+        private int[] values = EMPTY;
+        private int size;
+        
+        int size() {
+            return size;
+        }
+        
+        /**
+         * Find the slot of an index
+         * @return The slot, or -1 if the index has no entry
+         */
+        int find(int index) {
+            if (size == 0) {
+                return -1;
+            }
+            int mask = keys.length - 1;
+            int key = index + 1;
+            for (int slot = hash(key) & mask; keys[slot] != 0; slot = (slot + 1) & mask) {
+                if (keys[slot] == key) {
+                    return slot;
+                }
+            }
+            return -1;
+        }
+        
+        int valueAt(int slot) {
+            return values[slot];
+        }
+        
+        void put(int index, int value) {
+            if ((size + 1) * 2 > keys.length) {
+                resize(Math.max(8, keys.length * 2));
+            }
+            insert(index + 1, value);
+        }
+        
+        void putAll(IntMap other) {
+            for (int slot = 0; slot < other.keys.length; slot++) {
+                if (other.keys[slot] != 0) {
+                    put(other.keys[slot] - 1, other.values[slot]);
+                }
+            }
+        }
+        
+        void copyInto(int[] array) {
+            for (int slot = 0; slot < keys.length; slot++) {
+                if (keys[slot] != 0) {
+                    array[keys[slot] - 1] = values[slot];
+                }
+            }
+        }
+        
+        private void insert(int key, int value) {
+            int mask = keys.length - 1;
+            int slot = hash(key) & mask;
+            while (keys[slot] != 0 && keys[slot] != key) {
+                slot = (slot + 1) & mask;
+            }
+            if (keys[slot] == 0) {
+                keys[slot] = key;
+                size++;
+            }
+            values[slot] = value;
+        }
+        
+        private void resize(int capacity) {
+            int[] oldKeys = keys;
+            int[] oldValues = values;
+            keys = new int[capacity];
+            values = new int[capacity];
+            size = 0;
+            for (int slot = 0; slot < oldKeys.length; slot++) {
+                if (oldKeys[slot] != 0) {
+                    insert(oldKeys[slot], oldValues[slot]);
+                }
+            }
+        }
+        
+        private static int hash(int key) {
+            int h = key * 0x9E3779B9;
+            return h ^ (h >>> 16);
+        }
+    }
+}
@@ -0,0 +1,144 @@
+package player;
+
+import game.Gesture;
+
+/**
+ * Fixed-capacity record of the latest gestures an opponent has thrown, packed two bits
+ * per gesture into a long[] (32 gestures per word). Once full, each new gesture
+ * overwrites the oldest one, so memory stays bounded however long a bot plays.
+ * Readers address gestures by age (0 = newest) and read them in place.
+ * The words are stored in chunks of CHUNK_WORDS. Forks share all chunks; a write
+ * copies only the chunk it lands in (copy-on-write), so forking a long history and
+ * playing on costs a few hundred bytes rather than a copy of the whole buffer.
+ */
+public final class GestureRingBuffer {
+    private static final int BITS = 2;
+    private static final int PER_WORD = Long.SIZE / BITS;
+    private static final long MASK = (1L << BITS) - 1;
+    private static final int CHUNK_SHIFT = 5;
+    private static final int CHUNK_WORDS = 1 << CHUNK_SHIFT; // 1024 gestures per chunk
+    
+    private final int capacity;
+    private long[][] chunks;
+    private boolean shared; // chunks may be referenced by a fork
+    private boolean chunksCopied; // the chunks array was copied since the last fork
+    private int ownedChunk = -1; // chunk copied since the last fork, writable in place
+    private int head; // slot the next gesture is written to
+    private long total; // gestures appended since the last clear
+    
+    /**
+     * Create an empty buffer
+     * @param capacity Number of gestures kept, at least 1
+     */
+    public GestureRingBuffer(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("capacity must be at least 1");
+        }
+        this.capacity = capacity;
+        int words = (capacity + PER_WORD - 1) / PER_WORD;
+        this.chunks = new long[(words + CHUNK_WORDS - 1) / CHUNK_WORDS][];
+        for (int i = 0; i < chunks.length; i++) {
+            chunks[i] = new long[Math.min(CHUNK_WORDS, words - i * CHUNK_WORDS)];
+        }
+    }
+    
+    private GestureRingBuffer(GestureRingBuffer source) {
+        this.capacity = source.capacity;
+        this.chunks = source.chunks;
+        this.shared = true;
+        this.head = source.head;
+        this.total = source.total;
+    }
+    
+    /**
+     * Copy this buffer in O(1); the chunks are shared until either copy writes to them
+     */
+    GestureRingBuffer fork() {
+        shared = true;
+        chunksCopied = false;
+        ownedChunk = -1;
+        return new GestureRingBuffer(this);
+    }
+    
+    void append(Gesture gesture) {
+        int word = head / PER_WORD;
+        long[] chunk = shared ? ownChunk(word >>> CHUNK_SHIFT) : chunks[word >>> CHUNK_SHIFT];
+        int index = word & (CHUNK_WORDS - 1);
+        int shift = (head % PER_WORD) * BITS;
+        chunk[index] = (chunk[index] & ~(MASK << shift)) | ((long) gesture.ordinal() << shift);
+        head = head + 1 == capacity ? 0 : head + 1;
+        total++;
+    }
+    
+    /**
+     * Get a chunk this buffer may write to, copying it if a fork may share it
+     */
+    private long[] ownChunk(int chunk) {
+        if (!chunksCopied) {
+            chunks = chunks.clone();
+            chunksCopied = true;
+        }
+        if (chunk != ownedChunk) {
+            chunks[chunk] = chunks[chunk].clone();
+            ownedChunk = chunk;
+        }
+        return chunks[chunk];
+    }
+    
+    void clear() {
+        // Stale words are never read, so only the counters are reset
+        head = 0;
+        total = 0;
+    }
+    
+    public int getCapacity() {
+        return capacity;
+    }
+    
+    /**
+     * Get the number of gestures currently held
+     * @return min(getTotal(), getCapacity())
+     */
+    public int size() {
+        return (int) Math.min(total, capacity);
+    }
+    
+    public boolean isEmpty() {
+        return total == 0;
+    }
+    
+    /**
+     * Get the number of gestures appended since the buffer was last cleared,
+     * including those already overwritten
+     * @return Total gestures observed
+     */
+    public long getTotal() {
+        return total;
+    }
+    
+    /**
+     * Get a gesture by age
+     * @param age 0 for the newest gesture, up to size() - 1 for the oldest one held
+     * @return The gesture's ordinal
+     */
+    public int getOrdinal(int age) {
+        if (age < 0 || age >= size()) {
+            throw new IndexOutOfBoundsException("age " + age + " of " + size());
+        }
+        int slot = head - 1 - age;
+        if (slot < 0) {
+            slot += capacity;
+        }
+        int word = slot / PER_WORD;
+        return (int) (chunks[word >>> CHUNK_SHIFT][word & (CHUNK_WORDS - 1)] >>> ((slot % PER_WORD) * BITS) & MASK);
+    }
+    
+    /**
+     * Get a gesture by age
+     * @param age 0 for the newest gesture, up to size() - 1 for the oldest one held
+     * @return The gesture
+     */
+    public Gesture get(int age) {
+        return Gesture.fromOrdinal(getOrdinal(age));
+    }
+}
@@ -17,6 +17,18 @@ public class HumanPlayer extends Player {
         this.scissorsKey = Character.toLowerCase(scissorsKey);
     }
     
+    private HumanPlayer(HumanPlayer source) {
+        super(source);
+        this.rockKey = source.rockKey;
+        this.paperKey = source.paperKey;
+        this.scissorsKey = source.scissorsKey;
+    }
+    
+    @Override
+    public HumanPlayer fork() {
+        return new HumanPlayer(this);
+    }
+    
     public char getRockKey() {
         return rockKey;
     }
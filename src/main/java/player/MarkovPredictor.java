@@ -0,0 +1,123 @@
+package player;
+
+import java.util.Arrays;
+
+/**
+ * Order-1 to order-k Markov model of an opponent's gesture stream.
+ * A context of j gestures is encoded as a base-3 number, which hashes it perfectly into
+ * a flat int[] of transition counts: the rows of order j start at an offset and context
+ * c of that order is row offset + c. The codes of the current contexts are rolled
+ * forward as gestures arrive, so both observing and predicting are O(k).
+ * The table is a ForkableIntArray, so a fork costs O(order) and a branch only allocates
+ * for the counts it changes, however many rounds the model has learned from.
+ */
+final class MarkovPredictor {
+    /** Highest supported order; the table has (3^(k+1) - 3) / 2 rows of three counts */
+    static final int MAX_ORDER = 8;
+    
+    private static final int GESTURES = 3;
+    
+    private final int order;
+    private final int[] offsets; // first row of each order, by order - 1
+    private final int[] modulus; // 3^order, by order - 1
+    private final int[] contexts; // code of the latest j gestures, by j - 1
+    private final ForkableIntArray counts; // row * 3 + next gesture
+    private long observed;
+    
+    /**
+     * Create an empty model
+     * @param order Longest context, between 1 and MAX_ORDER
+     */
+    MarkovPredictor(int order) {
+        if (order < 1 || order > MAX_ORDER) {
+            throw new IllegalArgumentException("order must be between 1 and " + MAX_ORDER);
+        }
+        this.order = order;
+        this.offsets = new int[order];
+        this.modulus = new int[order];
+        this.contexts = new int[order];
+        int rows = 0;
+        int power = 1;
+        for (int j = 0; j < order; j++) {
+            power *= GESTURES;
+            offsets[j] = rows;
+            modulus[j] = power;
+            rows += power;
+        }
+        this.counts = new ForkableIntArray(rows * GESTURES);
+    }
+    
+    private MarkovPredictor(MarkovPredictor source) {
+        this.order = source.order;
+        this.offsets = source.offsets;
+        this.modulus = source.modulus;
+        this.contexts = source.contexts.clone();
+        this.counts = source.counts.fork();
+        this.observed = source.observed;
+    }
+    
+    /**
+     * Copy this model; the copies share the counts learned so far
+     */
+    MarkovPredictor fork() {
+        return new MarkovPredictor(this);
+    }
+    
+    int getOrder() {
+        return order;
+    }
+    
+    /**
+     * Count the transition from every current context to a gesture, then roll the contexts
+     * @param gesture Ordinal of the opponent's gesture
+     */
+    void observe(int gesture) {
+        int known = (int) Math.min(observed, order);
+        for (int j = 0; j < known; j++) {
+            counts.increment((offsets[j] + contexts[j]) * GESTURES + gesture);
+        }
+        for (int j = 0; j < order; j++) {
+            contexts[j] = (contexts[j] * GESTURES + gesture) % modulus[j];
+        }
+        observed++;
+    }
+    
+    /**
+     * Predict the opponent's next gesture from the context with the strongest evidence.
+     * A context's evidence is n * p: how often its most frequent successor followed it,
+     * times that successor's share. Longer contexts win ties.
+     * @return Ordinal of the predicted gesture, or -1 if no current context has been seen before
+     */
+    int predict() {
+        int best = -1;
+        double bestEvidence = 0;
+        for (int j = (int) Math.min(observed, order) - 1; j >= 0; j--) {
+            int row = (offsets[j] + contexts[j]) * GESTURES;
+            int total = 0;
+            int max = 0;
+            int argmax = 0;
+            for (int g = 0; g < GESTURES; g++) {
+                int count = counts.get(row + g);
+                total += count;
+                if (count > max) {
+                    max = count;
+                    argmax = g;
+                }
+            }
+            if (total > 0) {
+                double evidence = (double) max * max / total;
+                if (evidence > bestEvidence) {
+                    bestEvidence = evidence;
+                    best = argmax;
+                }
+            }
+        }
+        return best;
+    }
+    
+    void clear() {
+        counts.clear(counts.length());
+        Arrays.fill(contexts, 0);
+        observed = 0;
+    }
+}
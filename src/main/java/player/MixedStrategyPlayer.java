@@ -0,0 +1,94 @@
+package player;
+
+import game.Gesture;
+import game.GestureRules;
+import util.AliasTable;
+import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Plays a fixed mixed strategy, such as an equilibrium from NashSolver.
+ * Each choice is one O(1) draw from an alias table.
+ * The strategy may be over any GestureRules set: chooseOrdinal() samples a gesture
+ * of the rule set by ordinal, for example to play a Rock-Paper-Scissors-Lizard-Spock
+ * equilibrium. makeChoice(), and so play through GameEngine, needs a three-gesture
+ * rule set, because the engine's Gesture enum only has Rock, Paper and Scissors.
+ */
+public class MixedStrategyPlayer extends Player {
+    private final GestureRules rules;
+    private final AliasTable table;
+    private final Random random; // null = ThreadLocalRandom
+    
+    /**
+     * Create a player
+     * @param name Player name
+     * @param strategy Probability of each gesture, by Gesture ordinal
+     */
+    public MixedStrategyPlayer(String name, double[] strategy) {
+        this(name, strategy, null);
+    }
+    
+    /**
+     * Create a player with its own source of randomness
+     * @param name Player name
+     * @param strategy Probability of each gesture, by Gesture ordinal
+     * @param random Source of randomness, or null for ThreadLocalRandom
+     */
+    public MixedStrategyPlayer(String name, double[] strategy, Random random) {
+        this(name, GestureRules.CLASSIC, strategy, random);
+    }
+    
+    /**
+     * Create a player for a rule set
+     * @param name Player name
+     * @param rules Rule set the strategy is over
+     * @param strategy Probability of each gesture, by ordinal in rules
+     * @param random Source of randomness, or null for ThreadLocalRandom
+     */
+    public MixedStrategyPlayer(String name, GestureRules rules, double[] strategy, Random random) {
+        super(name);
+        if (strategy.length != rules.size()) {
+            throw new IllegalArgumentException("Strategy needs one probability per gesture of " + rules.getName());
+        }
+        this.rules = rules;
+        this.table = new AliasTable(strategy);
+        this.random = random;
+    }
+    
+    private MixedStrategyPlayer(MixedStrategyPlayer source) {
+        super(source);
+        this.rules = source.rules;
+        this.table = source.table;
+        this.random = source.random;
+    }
+    
+    @Override
+    public MixedStrategyPlayer fork() {
+        return new MixedStrategyPlayer(this);
+    }
+    
+    public GestureRules getRules() {
+        return rules;
+    }
+    
+    /**
+     * Draw a gesture of the rule set
+     * @return Ordinal of the gesture in getRules()
+     */
+    public int chooseOrdinal() {
+        return table.sample(random == null ? ThreadLocalRandom.current() : random);
+    }
+    
+    /**
+     * Draw a gesture
+     * @return The gesture with the drawn ordinal
+     * @throws IllegalStateException If the rule set does not have exactly the Gesture values
+     */
+    @Override
+    public Gesture makeChoice() {
+        if (rules.size() != Gesture.values().length) {
+            throw new IllegalStateException(rules.getName() + " gestures cannot be played as a Gesture; use chooseOrdinal()");
+        }
+        return Gesture.fromOrdinal(chooseOrdinal());
+    }
+}
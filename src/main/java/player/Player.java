@@ -16,6 +16,16 @@ public abstract class Player {
         this.hasSubmittedGesture = false;
     }
     
+    /**
+     * Copy the base state of another player, for use by fork()
+     * @param source The player to copy
+     */
+    protected Player(Player source) {
+        this.name = source.name;
+        this.currentGesture = source.currentGesture;
+        this.hasSubmittedGesture = source.hasSubmittedGesture;
+    }
+    
     public String getName() {
         return name;
     }
@@ -36,6 +46,13 @@ public abstract class Player {
         this.hasSubmittedGesture = false;
     }
     
+    /**
+     * Reset the player for a completely new game
+     */
+    public void resetForNewGame() {
+        resetForNewRound();
+    }
+    
     /**
      * Abstract method for making a gesture choice
      * This will be implemented differently for human and computer players
@@ -56,4 +73,20 @@ public abstract class Player {
         this.hasSubmittedGesture = true;
         return true;
     }
+    
+    /**
+     * Called after each resolved round with the gesture the opponent threw.
+     * Players that adapt to their opponent override this; the default ignores it.
+     * @param gesture The opponent's gesture
+     */
+    public void observeOpponentGesture(Gesture gesture) {
+    }
+    
+    /**
+     * Create an independent copy of this player for what-if analysis.
+     * Later changes to either player must not be visible to the other;
+     * immutable state may be shared.
+     * @return The copy
+     */
+    public abstract Player fork();
 }
@@ -0,0 +1,199 @@
+package player;
+
+import game.Gesture;
+
+/**
+ * Long-range pattern matcher over an opponent's gesture stream, built on an online
+ * suffix automaton. After every gesture, the suffix link of the state for the whole
+ * history leads to the longest suffix that also occurred earlier; the gesture that
+ * followed its first occurrence is the prediction. Extending the automaton is amortized
+ * O(1) and it has at most 2n states for n gestures.
+ * To keep memory bounded the automaton indexes at most capacity gestures; when full it
+ * is rebuilt from the latest half, which keeps the amortized cost per gesture O(1).
+ * The states live in a ForkableIntArray and the indexed history in a GestureRingBuffer,
+ * so a fork costs O(1) and a branch only allocates for the states it adds or changes.
+ */
+final class SuffixAutomatonPredictor {
+    private static final int GESTURES = 3;
+    private static final int INITIAL_STATES = 16;
+    
+    // Entries of a state in the table, after its transitions by gesture
+    private static final int LINK = GESTURES; // suffix link, -1 for the root
+    private static final int LENGTH = GESTURES + 1; // longest string of the state
+    private static final int FIRST_END = GESTURES + 2; // position where the state's strings first end
+    private static final int STATE_SIZE = GESTURES + 3;
+    
+    private final int capacity;
+    private final GestureRingBuffer history;
+    private final ForkableIntArray table; // state * STATE_SIZE + entry; transitions of 0 = none (the root is never a target)
+    private int states;
+    private int last; // state of the whole indexed history
+    private int size; // gestures indexed
+    
+    /**
+     * Create an empty matcher
+     * @param capacity Longest history indexed at once, at least 2
+     */
+    SuffixAutomatonPredictor(int capacity) {
+        if (capacity < 2) {
+            throw new IllegalArgumentException("capacity must be at least 2");
+        }
+        this.capacity = capacity;
+        this.history = new GestureRingBuffer(capacity);
+        this.table = new ForkableIntArray(initialLength());
+        reset();
+    }
+    
+    private SuffixAutomatonPredictor(SuffixAutomatonPredictor source) {
+        this.capacity = source.capacity;
+        this.history = source.history.fork();
+        this.table = source.table.fork();
+        this.states = source.states;
+        this.last = source.last;
+        this.size = source.size;
+    }
+    
+    /**
+     * Copy this matcher; the copies share the states and history indexed so far
+     */
+    SuffixAutomatonPredictor fork() {
+        return new SuffixAutomatonPredictor(this);
+    }
+    
+    /**
+     * Get the number of gestures currently indexed
+     * @return Between 0 and the capacity
+     */
+    int size() {
+        return size;
+    }
+    
+    /**
+     * Append a gesture to the indexed history
+     * @param gesture Ordinal of the opponent's gesture
+     */
+    void observe(int gesture) {
+        if (size == capacity) {
+            rebuild(capacity / 2);
+        }
+        history.append(Gesture.fromOrdinal(gesture));
+        extend(gesture);
+    }
+    
+    /**
+     * Get the length of the longest suffix of the history that also occurred earlier
+     * @return Match length, 0 if there is none
+     */
+    int getMatchLength() {
+        return size == 0 ? 0 : get(get(last, LINK), LENGTH);
+    }
+    
+    /**
+     * Predict the gesture that followed the first earlier occurrence of the longest
+     * repeated suffix of the history
+     * @return Ordinal of the predicted gesture, or -1 if no suffix occurred before
+     */
+    int predict() {
+        if (size == 0) {
+            return -1;
+        }
+        int match = get(last, LINK);
+        if (match <= 0) {
+            return -1; // Only the empty suffix, at the root
+        }
+        int position = get(match, FIRST_END) + 1;
+        return history.getOrdinal(size - 1 - position);
+    }
+    
+    void clear() {
+        history.clear();
+        table.clear(initialLength());
+        reset();
+    }
+    
+    private int initialLength() {
+        return Math.min(INITIAL_STATES, 2 * capacity) * STATE_SIZE;
+    }
+    
+    private void reset() {
+        states = 0;
+        size = 0;
+        last = newState(0, -1);
+        set(last, LINK, -1);
+    }
+    
+    /**
+     * Re-index only the latest gestures
+     * @param keep Number of gestures to keep
+     */
+    private void rebuild(int keep) {
+        int[] kept = new int[keep];
+        for (int age = 0; age < keep; age++) {
+            kept[keep - 1 - age] = history.getOrdinal(age);
+        }
+        history.clear();
+        table.clear(table.length());
+        reset();
+        for (int gesture : kept) {
+            history.append(Gesture.fromOrdinal(gesture));
+            extend(gesture);
+        }
+    }
+    
+    private int get(int state, int entry) {
+        return table.get(state * STATE_SIZE + entry);
+    }
+    
+    private void set(int state, int entry, int value) {
+        table.set(state * STATE_SIZE + entry, value);
+    }
+    
+    private int newState(int stateLength, int stateFirstEnd) {
+        if ((states + 1) * STATE_SIZE > table.length()) {
+            table.grow(Math.min(2 * capacity, states * 2) * STATE_SIZE);
+        }
+        int state = states++;
+        // Every entry is written: a reused table may hold stale states
+        for (int g = 0; g < GESTURES; g++) {
+            set(state, g, 0);
+        }
+        set(state, LINK, 0);
+        set(state, LENGTH, stateLength);
+        set(state, FIRST_END, stateFirstEnd);
+        return state;
+    }
+    
+    /**
+     * Standard online suffix automaton construction step
+     */
+    private void extend(int gesture) {
+        int current = newState(get(last, LENGTH) + 1, size);
+        int p = last;
+        while (p != -1 && get(p, gesture) == 0) {
+            set(p, gesture, current);
+            p = get(p, LINK);
+        }
+        if (p == -1) {
+            set(current, LINK, 0);
+        } else {
+            int q = get(p, gesture);
+            if (get(p, LENGTH) + 1 == get(q, LENGTH)) {
+                set(current, LINK, q);
+            } else {
+                int clone = newState(get(p, LENGTH) + 1, get(q, FIRST_END));
+                for (int g = 0; g < GESTURES; g++) {
+                    set(clone, g, get(q, g));
+                }
+                set(clone, LINK, get(q, LINK));
+                while (p != -1 && get(p, gesture) == q) {
+                    set(p, gesture, clone);
+                    p = get(p, LINK);
+                }
+                set(q, LINK, clone);
+                set(current, LINK, clone);
+            }
+        }
+        last = current;
+        size++;
+    }
+}
@@ -0,0 +1,123 @@
+package server;
+
+import game.GameClock;
+import game.GameEngine.GameEngineListener;
+import game.GameMode;
+import util.GameConfig;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Hosts many concurrent matches on a small, fixed set of shard threads.
+ * Each match is pinned to one shard by its id; all commands for it are queued
+ * to that shard and executed in order on its thread, which is also where the
+ * match's listener is called. Countdown expiries are handled by a timing wheel
+ * per shard, so idle matches time out without any per-match thread.
+ */
+public class MatchRuntime {
+    private static final long DEFAULT_TICK_MILLIS = 10;
+    
+    private final MatchShard[] shards;
+    private final AtomicLong nextMatchId = new AtomicLong();
+    
+    /**
+     * Create a runtime with one shard per available core and the configured countdown
+     */
+    public MatchRuntime() {
+        this(Runtime.getRuntime().availableProcessors(), GameClock.SYSTEM,
+             GameConfig.getDefault().getCountdownDuration(), DEFAULT_TICK_MILLIS);
+    }
+    
+    /**
+     * Create a runtime
+     * @param shardCount Number of owner threads
+     * @param clock Clock used for countdowns
+     * @param countdownDuration Countdown duration in milliseconds
+     * @param tickMillis Timing wheel resolution, which bounds forfeit latency
+     */
+    public MatchRuntime(int shardCount, GameClock clock, long countdownDuration, long tickMillis) {
+        if (shardCount < 1) {
+            throw new IllegalArgumentException("shardCount must be at least 1");
+        }
+        shards = new MatchShard[shardCount];
+        for (int i = 0; i < shardCount; i++) {
+            shards[i] = new MatchShard(i, clock, countdownDuration, tickMillis);
+        }
+        for (MatchShard shard : shards) {
+            shard.start();
+        }
+    }
+    
+    /**
+     * Create a match on its shard
+     * @param mode The game mode (PvP or PvC)
+     * @param maxRounds Maximum number of rounds
+     * @param player1Name Name of player 1
+     * @param player2Name Name of player 2 (or computer)
+     * @param computerDifficulty Difficulty level for computer player (0-4)
+     * @param listener Listener for this match, called on the shard thread, or null
+     * @return The id used to address the match
+     */
+    public long createMatch(GameMode mode, int maxRounds, String player1Name, String player2Name,
+                            int computerDifficulty, GameEngineListener listener) {
+        long matchId = nextMatchId.getAndIncrement();
+        MatchShard.Command command = new MatchShard.Command(MatchShard.CREATE, matchId);
+        command.mode = mode;
+        command.maxRounds = maxRounds;
+        command.player1Name = player1Name;
+        command.player2Name = player2Name;
+        command.difficulty = computerDifficulty;
+        command.listener = listener;
+        shardFor(matchId).submit(command);
+        return matchId;
+    }
+    
+    public void startRound(long matchId) {
+        shardFor(matchId).submit(new MatchShard.Command(MatchShard.START_ROUND, matchId));
+    }
+    
+    public void keyPress(long matchId, char key) {
+        MatchShard.Command command = new MatchShard.Command(MatchShard.KEY_PRESS, matchId);
+        command.key = key;
+        shardFor(matchId).submit(command);
+    }
+    
+    public void closeMatch(long matchId) {
+        shardFor(matchId).submit(new MatchShard.Command(MatchShard.CLOSE, matchId));
+    }
+    
+    /**
+     * Get the number of live matches across all shards
+     * @return Live match count as last published by the shard threads
+     */
+    public int getMatchCount() {
+        int total = 0;
+        for (MatchShard shard : shards) {
+            total += shard.getMatchCount();
+        }
+        return total;
+    }
+    
+    public int getShardCount() {
+        return shards.length;
+    }
+    
+    /**
+     * Stop all shard threads. Commands still queued are dropped.
+     */
+    public void shutdown() {
+        for (MatchShard shard : shards) {
+            shard.shutdown();
+        }
+        try {
+            for (MatchShard shard : shards) {
+                shard.awaitTermination(1000);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+    
+    private MatchShard shardFor(long matchId) {
+        return shards[(int) Math.floorMod(matchId, (long) shards.length)];
+    }
+}
@@ -0,0 +1,166 @@
+package server;
+
+import game.GameClock;
+import game.GameEngine;
+import game.GameEngine.GameEngineListener;
+import game.GameMode;
+import game.TimingWheel;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * One owner thread and the engines pinned to it.
+ * Other threads only ever touch the lock-free inbound queue; every engine, the
+ * match table and the countdown wheel are confined to the shard thread, so no
+ * engine is ever locked.
+ */
+class MatchShard implements Runnable {
+    // Command types
+    static final int CREATE = 0;
+    static final int START_ROUND = 1;
+    static final int KEY_PRESS = 2;
+    static final int CLOSE = 3;
+    
+    private final Queue<Command> inbox = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean sleeping = new AtomicBoolean(false);
+    private final Map<Long, GameEngine> matches = new HashMap<>();
+    private final GameClock clock;
+    private final long countdownDuration;
+    private final TimingWheel wheel;
+    private final long parkNanos;
+    private final Thread thread;
+    private volatile boolean running = true;
+    private volatile int matchCount;
+    
+    MatchShard(int index, GameClock clock, long countdownDuration, long tickMillis) {
+        this.clock = clock;
+        this.countdownDuration = countdownDuration;
+        this.wheel = new TimingWheel(clock, tickMillis, 512);
+        this.parkNanos = TimeUnit.MILLISECONDS.toNanos(tickMillis);
+        this.thread = new Thread(this, "match-shard-" + index);
+        this.thread.setDaemon(true);
+    }
+    
+    void start() {
+        thread.start();
+    }
+    
+    /**
+     * Enqueue a command from any thread and wake the shard if it is idle
+     */
+    void submit(Command command) {
+        inbox.offer(command);
+        if (sleeping.get() && sleeping.compareAndSet(true, false)) {
+            LockSupport.unpark(thread);
+        }
+    }
+    
+    void shutdown() {
+        running = false;
+        LockSupport.unpark(thread);
+    }
+    
+    void awaitTermination(long millis) throws InterruptedException {
+        thread.join(millis);
+    }
+    
+    int getMatchCount() {
+        return matchCount;
+    }
+    
+    @Override
+    public void run() {
+        while (running) {
+            boolean worked = drain();
+            wheel.advance();
+            if (!worked) {
+                sleeping.set(true);
+                // Re-check after publishing the flag so a racing submit is not missed
+                if (inbox.isEmpty() && running) {
+                    LockSupport.parkNanos(this, parkNanos);
+                }
+                sleeping.set(false);
+            }
+        }
+    }
+    
+    private boolean drain() {
+        boolean worked = false;
+        Command command;
+        while ((command = inbox.poll()) != null) {
+            worked = true;
+            try {
+                execute(command);
+            } catch (RuntimeException e) {
+                System.out.println("Match " + command.matchId + " command failed: " + e);
+            }
+        }
+        return worked;
+    }
+    
+    private void execute(Command command) {
+        switch (command.type) {
+            case CREATE: {
+                GameEngine engine = new GameEngine(clock, countdownDuration);
+                engine.setExpiryScheduler(wheel);
+                if (command.listener != null) {
+                    engine.addListener(command.listener);
+                }
+                engine.initializeGame(command.mode, command.maxRounds, command.player1Name,
+                                      command.player2Name, command.difficulty);
+                matches.put(command.matchId, engine);
+                matchCount = matches.size();
+                break;
+            }
+            case START_ROUND: {
+                GameEngine engine = matches.get(command.matchId);
+                if (engine != null) {
+                    engine.startRound();
+                }
+                break;
+            }
+            case KEY_PRESS: {
+                GameEngine engine = matches.get(command.matchId);
+                if (engine != null) {
+                    engine.processKeyPress(command.key);
+                }
+                break;
+            }
+            case CLOSE: {
+                GameEngine engine = matches.remove(command.matchId);
+                if (engine != null) {
+                    engine.setExpiryScheduler(null);
+                }
+                matchCount = matches.size();
+                break;
+            }
+            default:
+                break;
+        }
+    }
+    
+    /**
+     * Inbound command; fields not used by a command type are left unset
+     */
+    static class Command {
+        final int type;
+        final long matchId;
+        char key;
+        GameMode mode;
+        int maxRounds;
+        String player1Name;
+        String player2Name;
+        int difficulty;
+        GameEngineListener listener;
+        
+        Command(int type, long matchId) {
+            this.type = type;
+            this.matchId = matchId;
+        }
+    }
+}
@@ -0,0 +1,164 @@
+package simulation;
+
+/**
+ * Head-to-head results between strategies, as collected by TournamentRunner.
+ * A match scores 1 for a win, 0.5 for a draw and 0 for a loss. Standard errors and
+ * confidence intervals use the normal approximation over those per-match scores.
+ */
+public class CrossTable {
+    /** Two-sided 95% normal quantile */
+    private static final double Z_95 = 1.959964;
+    
+    private final String[] names;
+    private final long[][] wins;
+    private final long[][] draws;
+    
+    public CrossTable(String[] names) {
+        this.names = names.clone();
+        this.wins = new long[names.length][names.length];
+        this.draws = new long[names.length][names.length];
+    }
+    
+    /**
+     * Add the matches of one pairing
+     * @param first Index of the first strategy
+     * @param second Index of the second strategy
+     * @param firstWins Matches won by the first strategy
+     * @param secondWins Matches won by the second strategy
+     * @param drawn Drawn matches
+     */
+    void record(int first, int second, long firstWins, long secondWins, long drawn) {
+        wins[first][second] += firstWins;
+        wins[second][first] += secondWins;
+        draws[first][second] += drawn;
+        draws[second][first] += drawn;
+    }
+    
+    public int size() {
+        return names.length;
+    }
+    
+    public String getName(int index) {
+        return names[index];
+    }
+    
+    public long getWins(int strategy, int opponent) {
+        return wins[strategy][opponent];
+    }
+    
+    public long getDraws(int strategy, int opponent) {
+        return draws[strategy][opponent];
+    }
+    
+    public long getMatches(int strategy, int opponent) {
+        return wins[strategy][opponent] + wins[opponent][strategy] + draws[strategy][opponent];
+    }
+    
+    /**
+     * Get the mean match score of a strategy against one opponent
+     * @return Score in [0, 1], or NaN if they never met
+     */
+    public double getScore(int strategy, int opponent) {
+        return mean(wins[strategy][opponent], draws[strategy][opponent], getMatches(strategy, opponent));
+    }
+    
+    /**
+     * Get the half-width of the 95% confidence interval of getScore()
+     * @return Half-width, or NaN if they never met
+     */
+    public double getConfidence(int strategy, int opponent) {
+        return Z_95 * getStandardError(strategy, opponent);
+    }
+    
+    /**
+     * Get the standard error of getScore()
+     * @return Standard error, or NaN if they never met
+     */
+    public double getStandardError(int strategy, int opponent) {
+        return standardError(wins[strategy][opponent], draws[strategy][opponent], getMatches(strategy, opponent));
+    }
+    
+    /**
+     * Get the total points of a strategy over all its matches
+     * @return Wins plus half the draws
+     */
+    public double getTotalScore(int strategy) {
+        double score = 0;
+        for (int opponent = 0; opponent < names.length; opponent++) {
+            score += wins[strategy][opponent] + 0.5 * draws[strategy][opponent];
+        }
+        return score;
+    }
+    
+    /**
+     * Get the mean match score of a strategy over all its matches
+     * @return Score in [0, 1], or NaN if it played none
+     */
+    public double getOverallScore(int strategy) {
+        long[] totals = totals(strategy);
+        return mean(totals[0], totals[1], totals[2]);
+    }
+    
+    /**
+     * Get the half-width of the 95% confidence interval of getOverallScore()
+     * @return Half-width, or NaN if it played none
+     */
+    public double getOverallConfidence(int strategy) {
+        long[] totals = totals(strategy);
+        return Z_95 * standardError(totals[0], totals[1], totals[2]);
+    }
+    
+    private long[] totals(int strategy) {
+        long[] totals = new long[3];
+        for (int opponent = 0; opponent < names.length; opponent++) {
+            totals[0] += wins[strategy][opponent];
+            totals[1] += draws[strategy][opponent];
+            totals[2] += getMatches(strategy, opponent);
+        }
+        return totals;
+    }
+    
+    private static double mean(long wins, long draws, long matches) {
+        return matches == 0 ? Double.NaN : (wins + 0.5 * draws) / matches;
+    }
+    
+    private static double standardError(long wins, long draws, long matches) {
+        if (matches == 0) {
+            return Double.NaN;
+        }
+        double mean = mean(wins, draws, matches);
+        long losses = matches - wins - draws;
+        double variance = (wins * (1 - mean) * (1 - mean)
+                         + draws * (0.5 - mean) * (0.5 - mean)
+                         + losses * mean * mean) / matches;
+        return Math.sqrt(variance / matches);
+    }
+    
+    @Override
+    public String toString() {
+        int width = 8;
+        for (String name : names) {
+            width = Math.max(width, name.length());
+        }
+        String nameFormat = "%-" + width + "s";
+        StringBuilder text = new StringBuilder(String.format(nameFormat, ""));
+        for (String name : names) {
+            text.append(String.format(" | %-15s", name));
+        }
+        text.append(" | overall\n");
+        
+        for (int i = 0; i < names.length; i++) {
+            text.append(String.format(nameFormat, names[i]));
+            for (int j = 0; j < names.length; j++) {
+                if (i == j || getMatches(i, j) == 0) {
+                    text.append(String.format(" | %-15s", "-"));
+                } else {
+                    text.append(String.format(" | %-15s",
+                        String.format("%.3f +/- %.3f", getScore(i, j), getConfidence(i, j))));
+                }
+            }
+            text.append(String.format(" | %.3f +/- %.3f%n", getOverallScore(i), getOverallConfidence(i)));
+        }
+        return text.toString();
+    }
+}
@@ -0,0 +1,108 @@
+package simulation;
+
+/**
+ * Outcome of an EliminationTournament: the survivor array of every bracket round
+ * plus wall time and memory figures
+ */
+public class EliminationResult {
+    private final int[][] survivors;
+    private final long matches;
+    private final long gameRounds;
+    private final long elapsedNanos;
+    private final long peakHeapBytes;
+    private final int threads;
+    
+    public EliminationResult(int[][] survivors, long matches, long gameRounds,
+                             long elapsedNanos, long peakHeapBytes, int threads) {
+        this.survivors = survivors;
+        this.matches = matches;
+        this.gameRounds = gameRounds;
+        this.elapsedNanos = elapsedNanos;
+        this.peakHeapBytes = peakHeapBytes;
+        this.threads = threads;
+    }
+    
+    public int getPlayers() {
+        return survivors[0].length;
+    }
+    
+    /**
+     * Get the number of bracket rounds played
+     * @return Rounds until one player was left
+     */
+    public int getBracketRounds() {
+        return survivors.length - 1;
+    }
+    
+    /**
+     * Get how many players were left after a bracket round
+     * @param round 0 for the initial field, up to getBracketRounds()
+     * @return Survivor count
+     */
+    public int getSurvivorCount(int round) {
+        return survivors[round].length;
+    }
+    
+    /**
+     * Get a survivor of a bracket round
+     * @param round 0 for the initial field, up to getBracketRounds()
+     * @param index Position in that round's survivor array
+     * @return Seat number of the player
+     */
+    public int getSurvivor(int round, int index) {
+        return survivors[round][index];
+    }
+    
+    /**
+     * Get the seat number of the tournament winner
+     * @return Seat number
+     */
+    public int getChampion() {
+        return survivors[survivors.length - 1][0];
+    }
+    
+    /**
+     * Get the number of matches played, including replays of drawn matches
+     * @return Match count
+     */
+    public long getMatches() {
+        return matches;
+    }
+    
+    public long getGameRounds() {
+        return gameRounds;
+    }
+    
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+    
+    /**
+     * Get the heap high-water mark observed while the tournament ran
+     * @return Bytes, summed over heap pools
+     */
+    public long getPeakHeapBytes() {
+        return peakHeapBytes;
+    }
+    
+    public int getThreads() {
+        return threads;
+    }
+    
+    /**
+     * Get throughput in completed matches per second
+     * @return Matches per second, or 0 if no time has elapsed
+     */
+    public double getMatchesPerSecond() {
+        return elapsedNanos == 0 ? 0 : matches * 1_000_000_000.0 / elapsedNanos;
+    }
+    
+    @Override
+    public String toString() {
+        return String.format("%d players, %d bracket rounds, %d matches (%d rounds) on %d thread(s) "
+                           + "in %.3f s: %.0f matches/s, peak heap %.1f MB | champion seat %d",
+                           getPlayers(), getBracketRounds(), matches, gameRounds, threads,
+                           elapsedNanos / 1e9, getMatchesPerSecond(),
+                           peakHeapBytes / (1024.0 * 1024.0), getChampion());
+    }
+}
@@ -0,0 +1,186 @@
+package simulation;
+
+import game.GameEngine;
+import game.GameMode;
+import player.ComputerPlayer;
+import player.Player;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.IntFunction;
+
+/**
+ * Single-elimination bracket for very large fields of headless players.
+ * Players are identified by seat number only. Each bracket round pairs neighbouring
+ * seats of the previous survivor array and writes the winners into a new int[], so
+ * a round costs one int per surviving player instead of one object per match.
+ * Pairings are split across a fork/join pool; every leaf task owns one GameEngine
+ * and asks the factory for the two players of each match it plays.
+ * An odd player out at the end of a round gets a bye.
+ */
+public class EliminationTournament {
+    /** Pairings handled by one leaf task */
+    private static final int LEAF_PAIRINGS = 1 << 10;
+    /** Drawn matches are replayed this many times before the first seat advances */
+    private static final int MAX_REPLAYS = 8;
+    
+    private final int maxRounds;
+    private final IntFunction<? extends Player> playerFactory;
+    
+    /**
+     * Create a tournament
+     * @param maxRounds Maximum number of rounds per match
+     * @param playerFactory Creates the player for a seat, once per match it plays.
+     *                      Reusing one name for all players lets each engine keep its
+     *                      outcome table across matches.
+     */
+    public EliminationTournament(int maxRounds, IntFunction<? extends Player> playerFactory) {
+        if (maxRounds < 1) {
+            throw new IllegalArgumentException("maxRounds must be at least 1");
+        }
+        this.maxRounds = maxRounds;
+        this.playerFactory = playerFactory;
+    }
+    
+    /**
+     * Play the full bracket
+     * @param players Number of seats, at least 1
+     * @param parallelism Number of worker threads
+     * @return Survivor arrays, champion, wall time and heap high-water mark
+     */
+    public EliminationResult run(int players, int parallelism) {
+        if (players < 1) {
+            throw new IllegalArgumentException("players must be at least 1");
+        }
+        resetPeakHeap();
+        long start = System.nanoTime();
+        
+        int bracketRounds = 32 - Integer.numberOfLeadingZeros(players - 1);
+        int[][] survivors = new int[bracketRounds + 1][];
+        int[] seats = new int[players];
+        for (int i = 0; i < players; i++) {
+            seats[i] = i;
+        }
+        survivors[0] = seats;
+        
+        long matches = 0;
+        long gameRounds = 0;
+        ForkJoinPool pool = new ForkJoinPool(Math.max(1, parallelism));
+        try {
+            for (int round = 1; round <= bracketRounds; round++) {
+                int[] previous = survivors[round - 1];
+                int[] next = new int[(previous.length + 1) / 2];
+                int pairings = previous.length / 2;
+                if (previous.length % 2 != 0) {
+                    next[pairings] = previous[previous.length - 1];
+                }
+                long[] counts = pool.invoke(new RoundTask(previous, next, 0, pairings));
+                matches += counts[0];
+                gameRounds += counts[1];
+                survivors[round] = next;
+            }
+        } finally {
+            pool.shutdown();
+        }
+        
+        return new EliminationResult(survivors, matches, gameRounds, System.nanoTime() - start,
+                                     peakHeap(), Math.max(1, parallelism));
+    }
+    
+    private static void resetPeakHeap() {
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if (pool.getType() == MemoryType.HEAP && pool.isValid()) {
+                pool.resetPeakUsage();
+            }
+        }
+    }
+    
+    /**
+     * Sum of the per-pool peaks since the last reset; pools peak at different
+     * times, so this is an upper bound on the real heap high-water mark
+     */
+    private static long peakHeap() {
+        long peak = 0;
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if (pool.getType() == MemoryType.HEAP && pool.isValid()) {
+                peak += pool.getPeakUsage().getUsed();
+            }
+        }
+        return peak;
+    }
+    
+    /**
+     * Resolves a range of pairings, halving it until it is small enough to play directly.
+     * Returns {matches, game rounds} including replays.
+     */
+    private class RoundTask extends RecursiveTask<long[]> {
+        private static final long serialVersionUID = 1L;
+        
+        private final int[] previous;
+        private final int[] next;
+        private final int from;
+        private final int to;
+        
+        RoundTask(int[] previous, int[] next, int from, int to) {
+            this.previous = previous;
+            this.next = next;
+            this.from = from;
+            this.to = to;
+        }
+        
+        @Override
+        protected long[] compute() {
+            if (to - from <= LEAF_PAIRINGS) {
+                return play();
+            }
+            int middle = (from + to) >>> 1;
+            RoundTask left = new RoundTask(previous, next, from, middle);
+            left.fork();
+            long[] right = new RoundTask(previous, next, middle, to).compute();
+            long[] counts = left.join();
+            counts[0] += right[0];
+            counts[1] += right[1];
+            return counts;
+        }
+        
+        private long[] play() {
+            GameEngine engine = new GameEngine();
+            long matches = 0;
+            long gameRounds = 0;
+            for (int i = from; i < to; i++) {
+                int seat1 = previous[2 * i];
+                int seat2 = previous[2 * i + 1];
+                Player player1 = playerFactory.apply(seat1);
+                Player player2 = playerFactory.apply(seat2);
+                
+                int winner = 0;
+                for (int attempt = 0; attempt <= MAX_REPLAYS && winner == 0; attempt++) {
+                    engine.initializeGame(GameMode.PLAYER_VS_COMPUTER, maxRounds, player1, player2);
+                    winner = engine.playGame();
+                    matches++;
+                    gameRounds += engine.getGameState().getCurrentRound();
+                }
+                next[i] = winner == 2 ? seat2 : seat1;
+            }
+            return new long[] {matches, gameRounds};
+        }
+    }
+    
+    /**
+     * Command-line entry point for scaling measurements.
+     * Usage: EliminationTournament [players] [maxRounds] [threads]
+     */
+    public static void main(String[] args) {
+        int players = args.length > 0 ? Integer.parseInt(args[0]) : 1_000_000;
+        int maxRounds = args.length > 1 ? Integer.parseInt(args[1]) : 3;
+        int threads = args.length > 2 ? Integer.parseInt(args[2])
+                                      : Runtime.getRuntime().availableProcessors();
+        
+        // Mix the three difficulty levels across the field
+        EliminationTournament tournament = new EliminationTournament(maxRounds,
+            seat -> new ComputerPlayer("Bot", seat % 3));
+        System.out.println(tournament.run(players, threads));
+    }
+}
@@ -0,0 +1,275 @@
+package simulation;
+
+import game.GameEngine;
+import game.GameMode;
+import game.GameState;
+import player.ComputerPlayer;
+import player.Player;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Supplier;
+
+/**
+ * Runs complete best-of-N matches headlessly through GameEngine.
+ * No Swing, sound or countdown is involved: every round is resolved through
+ * GameEngine.playRound() as fast as the players can choose.
+ * Each worker thread owns its own engine and players, so workers never share state.
+ */
+public class MatchSimulator {
+    // Slots of the per-worker counter array
+    private static final int MATCHES = 0;
+    private static final int ROUNDS = 1;
+    private static final int PLAYER1_WINS = 2;
+    private static final int PLAYER2_WINS = 3;
+    private static final int DRAWS = 4;
+    private static final int COUNT_SLOTS = 5;
+    /** Matches a worker plays between two looks at a sequential test */
+    private static final int SEQUENTIAL_BATCH = 256;
+    
+    private final int maxRounds;
+    private final Supplier<? extends Player> player1Factory;
+    private final Supplier<? extends Player> player2Factory;
+    
+    /**
+     * Create a simulator
+     * @param maxRounds Maximum number of rounds per match
+     * @param player1Factory Creates player 1 once per worker thread
+     * @param player2Factory Creates player 2 once per worker thread
+     */
+    public MatchSimulator(int maxRounds, Supplier<? extends Player> player1Factory,
+                          Supplier<? extends Player> player2Factory) {
+        if (maxRounds < 1) {
+            throw new IllegalArgumentException("maxRounds must be at least 1");
+        }
+        this.maxRounds = maxRounds;
+        this.player1Factory = player1Factory;
+        this.player2Factory = player2Factory;
+    }
+    
+    /**
+     * Run matches on the calling thread
+     * @param matches Number of matches to play
+     * @return The aggregated result
+     */
+    public SimulationResult run(long matches) {
+        long start = System.nanoTime();
+        long[] counts = new Worker(matches).call();
+        return toResult(counts, System.nanoTime() - start, 1);
+    }
+    
+    /**
+     * Run matches split evenly across worker threads, one engine per thread
+     * @param matches Number of matches to play
+     * @param threads Number of worker threads
+     * @return The aggregated result
+     */
+    public SimulationResult run(long matches, int threads) {
+        if (threads <= 1) {
+            return run(matches);
+        }
+        
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            long start = System.nanoTime();
+            List<Future<long[]>> futures = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                long share = matches / threads + (i < matches % threads ? 1 : 0);
+                futures.add(executor.submit(new Worker(share)));
+            }
+            
+            long[] total = new long[COUNT_SLOTS];
+            for (Future<long[]> future : futures) {
+                long[] counts = future.get();
+                for (int i = 0; i < COUNT_SLOTS; i++) {
+                    total[i] += counts[i];
+                }
+            }
+            return toResult(total, System.nanoTime() - start, threads);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Simulation interrupted", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Simulation worker failed", e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+    
+    /**
+     * Run matches until a sequential test reaches a decision or the budget is spent.
+     * Workers report their counts to the test every few hundred matches, so a run may
+     * overshoot the stopping point by at most one batch per worker.
+     * @param test The test comparing player 1 against player 2
+     * @param maxMatches Largest number of matches to play
+     * @param threads Number of worker threads
+     * @return The decision, the matches played and the matches and rounds saved
+     */
+    public SequentialResult runSequential(SequentialTest test, long maxMatches, int threads) {
+        Monitor monitor = new Monitor(test, maxMatches);
+        int workers = Math.max(1, threads);
+        long start = System.nanoTime();
+        if (workers == 1) {
+            new SequentialWorker(monitor).call();
+        } else {
+            ExecutorService executor = Executors.newFixedThreadPool(workers);
+            try {
+                List<Future<Void>> futures = new ArrayList<>();
+                for (int i = 0; i < workers; i++) {
+                    futures.add(executor.submit(new SequentialWorker(monitor)));
+                }
+                for (Future<Void> future : futures) {
+                    future.get();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Simulation interrupted", e);
+            } catch (ExecutionException e) {
+                throw new IllegalStateException("Simulation worker failed", e.getCause());
+            } finally {
+                executor.shutdownNow();
+            }
+        }
+        
+        long[] counts = monitor.counts;
+        SimulationResult result = toResult(counts, System.nanoTime() - start, workers);
+        double llr = test.logLikelihoodRatio(counts[PLAYER1_WINS], counts[DRAWS], counts[PLAYER2_WINS]);
+        return new SequentialResult(result, monitor.decision, llr, maxMatches);
+    }
+    
+    private static SimulationResult toResult(long[] counts, long elapsedNanos, int threads) {
+        return new SimulationResult(counts[MATCHES], counts[ROUNDS], counts[PLAYER1_WINS],
+                                    counts[PLAYER2_WINS], counts[DRAWS], elapsedNanos, threads);
+    }
+    
+    /**
+     * Plays a share of the matches on one engine owned by a single thread
+     */
+    private class Worker implements Callable<long[]> {
+        private final long matches;
+        
+        Worker(long matches) {
+            this.matches = matches;
+        }
+        
+        @Override
+        public long[] call() {
+            GameEngine engine = new GameEngine();
+            Player player1 = player1Factory.get();
+            Player player2 = player2Factory.get();
+            long[] counts = new long[COUNT_SLOTS];
+            
+            for (long i = 0; i < matches; i++) {
+                playMatch(engine, player1, player2, counts);
+            }
+            return counts;
+        }
+    }
+    
+    private void playMatch(GameEngine engine, Player player1, Player player2, long[] counts) {
+        engine.initializeGame(GameMode.PLAYER_VS_COMPUTER, maxRounds, player1, player2);
+        int winner = engine.playGame();
+        GameState state = engine.getGameState();
+        
+        counts[MATCHES]++;
+        counts[ROUNDS] += state.getCurrentRound();
+        if (winner == 1) {
+            counts[PLAYER1_WINS]++;
+        } else if (winner == 2) {
+            counts[PLAYER2_WINS]++;
+        } else {
+            counts[DRAWS]++;
+        }
+    }
+    
+    /**
+     * Shared totals of a sequential run; hands out batches until the test decides
+     */
+    private static class Monitor {
+        private final SequentialTest test;
+        private final long maxMatches;
+        private final long[] counts = new long[COUNT_SLOTS];
+        private long claimed;
+        private SequentialTest.Decision decision = SequentialTest.Decision.CONTINUE;
+        
+        Monitor(SequentialTest test, long maxMatches) {
+            this.test = test;
+            this.maxMatches = maxMatches;
+        }
+        
+        /**
+         * Add a finished batch and claim the next one
+         * @return Matches to play next, 0 to stop
+         */
+        synchronized int report(long[] batch) {
+            for (int i = 0; i < COUNT_SLOTS; i++) {
+                counts[i] += batch[i];
+                batch[i] = 0;
+            }
+            if (decision == SequentialTest.Decision.CONTINUE) {
+                decision = test.decide(counts[PLAYER1_WINS], counts[DRAWS], counts[PLAYER2_WINS]);
+            }
+            if (decision != SequentialTest.Decision.CONTINUE || claimed >= maxMatches) {
+                return 0;
+            }
+            int next = (int) Math.min(SEQUENTIAL_BATCH, maxMatches - claimed);
+            claimed += next;
+            return next;
+        }
+    }
+    
+    /**
+     * Plays batches on its own engine until the monitor says stop
+     */
+    private class SequentialWorker implements Callable<Void> {
+        private final Monitor monitor;
+        
+        SequentialWorker(Monitor monitor) {
+            this.monitor = monitor;
+        }
+        
+        @Override
+        public Void call() {
+            GameEngine engine = new GameEngine();
+            Player player1 = player1Factory.get();
+            Player player2 = player2Factory.get();
+            long[] batch = new long[COUNT_SLOTS];
+            
+            for (int matches = monitor.report(batch); matches > 0; matches = monitor.report(batch)) {
+                for (int i = 0; i < matches; i++) {
+                    playMatch(engine, player1, player2, batch);
+                }
+            }
+            return null;
+        }
+    }
+    
+    /**
+     * Command-line entry point for throughput measurements.
+     * Usage: MatchSimulator [matches] [maxRounds] [threads] [difficulty1] [difficulty2] [sprt]
+     * With "sprt", matches is the budget of a sequential test of a 55% score
+     * for player 1 against equal strength at 5% error rates.
+     */
+    public static void main(String[] args) {
+        long matches = args.length > 0 ? Long.parseLong(args[0]) : 1_000_000L;
+        int maxRounds = args.length > 1 ? Integer.parseInt(args[1]) : 3;
+        int threads = args.length > 2 ? Integer.parseInt(args[2])
+                                      : Runtime.getRuntime().availableProcessors();
+        int difficulty1 = args.length > 3 ? Integer.parseInt(args[3]) : 0;
+        int difficulty2 = args.length > 4 ? Integer.parseInt(args[4]) : 0;
+        
+        MatchSimulator simulator = new MatchSimulator(maxRounds,
+            () -> new ComputerPlayer("Computer 1", difficulty1),
+            () -> new ComputerPlayer("Computer 2", difficulty2));
+        if (args.length > 5 && args[5].equalsIgnoreCase("sprt")) {
+            SequentialTest test = new SequentialTest(0.5, 0.55, 0.05, 0.05);
+            System.out.println(simulator.runSequential(test, matches, threads));
+        } else {
+            System.out.println(simulator.run(matches, threads));
+        }
+    }
+}
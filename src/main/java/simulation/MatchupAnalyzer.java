@@ -0,0 +1,239 @@
+package simulation;
+
+import game.GameEngine;
+import game.GameMode;
+import game.Gesture;
+import player.ComputerPlayer;
+import player.CopycatPlayer;
+import player.CyclingPlayer;
+import player.MixedStrategyPlayer;
+import player.Player;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Monte Carlo win-rate analysis of every strategy against every other.
+ * The matches of each pairing are cut into fixed-size chunks and the chunks are spread
+ * over a work-stealing fork/join pool, so every core stays busy even when some
+ * strategies are much slower than others. Each chunk builds its own engine and players
+ * with a Random seeded from the analyzer seed and the chunk number, and adds its counts to
+ * shared atomic arrays once at the end, so workers never lock or share a generator and
+ * the same seed gives the same results whatever the thread count and scheduling.
+ */
+public class MatchupAnalyzer {
+    /** Matches per unit of work */
+    private static final int CHUNK_MATCHES = 2_000;
+    
+    private final List<TournamentRunner.Strategy> strategies;
+    private final int maxRounds;
+    private final long seed;
+    
+    /**
+     * Create an analyzer
+     * @param strategies Strategies to compare, at least two
+     * @param maxRounds Maximum number of rounds per match
+     * @param seed Seed for every player of the analysis
+     */
+    public MatchupAnalyzer(List<TournamentRunner.Strategy> strategies, int maxRounds, long seed) {
+        if (strategies.size() < 2) {
+            throw new IllegalArgumentException("At least two strategies are required");
+        }
+        if (maxRounds < 1) {
+            throw new IllegalArgumentException("maxRounds must be at least 1");
+        }
+        this.strategies = new ArrayList<>(strategies);
+        this.maxRounds = maxRounds;
+        this.seed = seed;
+    }
+    
+    /**
+     * The Easy, Medium and Hard ComputerPlayer difficulties, the scripted opponent models
+     * (a Rock-Paper-Scissors cycler, a Rock-biased thrower and a copycat) and the
+     * Expert (Markov chain) and Master (sequence matching) difficulties
+     * @return The default strategy list
+     */
+    public static List<TournamentRunner.Strategy> defaultStrategies() {
+        List<TournamentRunner.Strategy> strategies = new ArrayList<>();
+        strategies.add(new TournamentRunner.Strategy("Easy", random -> new ComputerPlayer("Easy", 0, random)));
+        strategies.add(new TournamentRunner.Strategy("Medium", random -> new ComputerPlayer("Medium", 1, random)));
+        strategies.add(new TournamentRunner.Strategy("Hard", random -> new ComputerPlayer("Hard", 2, random)));
+        strategies.add(new TournamentRunner.Strategy("Cycler",
+            random -> new CyclingPlayer("Cycler", Gesture.ROCK, Gesture.PAPER, Gesture.SCISSORS)));
+        strategies.add(new TournamentRunner.Strategy("Biased",
+            random -> new MixedStrategyPlayer("Biased", new double[] {0.5, 0.25, 0.25}, random)));
+        strategies.add(new TournamentRunner.Strategy("Copycat", random -> new CopycatPlayer("Copycat", random)));
+        strategies.add(new TournamentRunner.Strategy("Expert", random -> new ComputerPlayer("Expert", 3, random)));
+        strategies.add(new TournamentRunner.Strategy("Master", random -> new ComputerPlayer("Master", 4, random)));
+        return strategies;
+    }
+    
+    /**
+     * Play every pairing
+     * @param matchesPerPair Matches played by each pair of strategies
+     * @param threads Number of worker threads
+     * @return Win-rate matrix and per-strategy throughput
+     */
+    public MatchupReport run(long matchesPerPair, int threads) {
+        int n = strategies.size();
+        int[][] pairs = new int[n * (n - 1) / 2][];
+        int p = 0;
+        for (int i = 0; i < n; i++) {
+            for (int j = i + 1; j < n; j++) {
+                pairs[p++] = new int[] {i, j};
+            }
+        }
+        long chunksPerPair = (matchesPerPair + CHUNK_MATCHES - 1) / CHUNK_MATCHES;
+        Totals totals = new Totals(n);
+        
+        int parallelism = Math.max(1, threads);
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        long start = System.nanoTime();
+        try {
+            pool.invoke(new ChunkTask(pairs, matchesPerPair, chunksPerPair, totals, 0, pairs.length * chunksPerPair));
+        } finally {
+            pool.shutdown();
+        }
+        long elapsed = System.nanoTime() - start;
+        
+        String[] names = new String[n];
+        for (int i = 0; i < n; i++) {
+            names[i] = strategies.get(i).getName();
+        }
+        CrossTable table = new CrossTable(names);
+        for (int[] pair : pairs) {
+            int i = pair[0];
+            int j = pair[1];
+            table.record(i, j, totals.wins.get(i * n + j), totals.wins.get(j * n + i), totals.draws.get(i * n + j));
+        }
+        long[] rounds = new long[n];
+        long[] nanos = new long[n];
+        for (int i = 0; i < n; i++) {
+            rounds[i] = totals.rounds.get(i);
+            nanos[i] = totals.nanos.get(i);
+        }
+        return new MatchupReport(table, rounds, nanos, elapsed, parallelism);
+    }
+    
+    /**
+     * Derive an independent seed from the analyzer seed and a chunk number
+     */
+    private static long mix(long seed, long chunk) {
+        long z = seed + 0x9E3779B97F4A7C15L * (1 + chunk);
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+    
+    /**
+     * Shared counters; every chunk adds to them once, with atomic adds only
+     */
+    private static class Totals {
+        final int n;
+        final AtomicLongArray wins;
+        final AtomicLongArray draws;
+        final AtomicLongArray rounds;
+        final AtomicLongArray nanos;
+        
+        Totals(int n) {
+            this.n = n;
+            this.wins = new AtomicLongArray(n * n);
+            this.draws = new AtomicLongArray(n * n);
+            this.rounds = new AtomicLongArray(n);
+            this.nanos = new AtomicLongArray(n);
+        }
+    }
+    
+    /**
+     * Splits a range of chunk numbers in halves until a single chunk is left, then plays it.
+     * Chunk k belongs to pair k / chunksPerPair.
+     */
+    private class ChunkTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+        
+        private final int[][] pairs;
+        private final long matchesPerPair;
+        private final long chunksPerPair;
+        private final Totals totals;
+        private final long from;
+        private final long to;
+        
+        ChunkTask(int[][] pairs, long matchesPerPair, long chunksPerPair, Totals totals, long from, long to) {
+            this.pairs = pairs;
+            this.matchesPerPair = matchesPerPair;
+            this.chunksPerPair = chunksPerPair;
+            this.totals = totals;
+            this.from = from;
+            this.to = to;
+        }
+        
+        @Override
+        protected void compute() {
+            if (to - from <= 1) {
+                if (to > from) {
+                    play(from);
+                }
+                return;
+            }
+            long middle = (from + to) >>> 1;
+            invokeAll(new ChunkTask(pairs, matchesPerPair, chunksPerPair, totals, from, middle),
+                      new ChunkTask(pairs, matchesPerPair, chunksPerPair, totals, middle, to));
+        }
+        
+        private void play(long chunk) {
+            int[] pair = pairs[(int) (chunk / chunksPerPair)];
+            long first = (chunk % chunksPerPair) * CHUNK_MATCHES;
+            long matches = Math.min(CHUNK_MATCHES, matchesPerPair - first);
+            
+            long started = System.nanoTime();
+            Random random = new Random(mix(seed, chunk));
+            GameEngine engine = new GameEngine();
+            Player player1 = strategies.get(pair[0]).create(random);
+            Player player2 = strategies.get(pair[1]).create(random);
+            long wins1 = 0;
+            long wins2 = 0;
+            long draws = 0;
+            long rounds = 0;
+            for (long i = 0; i < matches; i++) {
+                engine.initializeGame(GameMode.PLAYER_VS_COMPUTER, maxRounds, player1, player2);
+                int winner = engine.playGame();
+                rounds += engine.getGameState().getCurrentRound();
+                if (winner == 1) {
+                    wins1++;
+                } else if (winner == 2) {
+                    wins2++;
+                } else {
+                    draws++;
+                }
+            }
+            long spent = System.nanoTime() - started;
+            
+            int n = totals.n;
+            totals.wins.addAndGet(pair[0] * n + pair[1], wins1);
+            totals.wins.addAndGet(pair[1] * n + pair[0], wins2);
+            totals.draws.addAndGet(pair[0] * n + pair[1], draws);
+            totals.rounds.addAndGet(pair[0], rounds);
+            totals.rounds.addAndGet(pair[1], rounds);
+            totals.nanos.addAndGet(pair[0], spent);
+            totals.nanos.addAndGet(pair[1], spent);
+        }
+    }
+    
+    /**
+     * Command-line entry point.
+     * Usage: MatchupAnalyzer [matchesPerPair] [maxRounds] [threads] [seed]
+     */
+    public static void main(String[] args) {
+        long matches = args.length > 0 ? Long.parseLong(args[0]) : 100_000L;
+        int maxRounds = args.length > 1 ? Integer.parseInt(args[1]) : 3;
+        int threads = args.length > 2 ? Integer.parseInt(args[2])
+                                      : Runtime.getRuntime().availableProcessors();
+        long seed = args.length > 3 ? Long.parseLong(args[3]) : 42L;
+        
+        MatchupAnalyzer analyzer = new MatchupAnalyzer(defaultStrategies(), maxRounds, seed);
+        System.out.println(analyzer.run(matches, threads));
+    }
+}
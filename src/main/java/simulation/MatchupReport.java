@@ -0,0 +1,94 @@
+package simulation;
+
+/**
+ * Result of a MatchupAnalyzer run: the win-rate matrix and per-strategy throughput
+ */
+public class MatchupReport {
+    private final CrossTable table;
+    private final long[] rounds;
+    private final long[] nanos;
+    private final long elapsedNanos;
+    private final int threads;
+    
+    public MatchupReport(CrossTable table, long[] rounds, long[] nanos, long elapsedNanos, int threads) {
+        this.table = table;
+        this.rounds = rounds;
+        this.nanos = nanos;
+        this.elapsedNanos = elapsedNanos;
+        this.threads = threads;
+    }
+    
+    public CrossTable getTable() {
+        return table;
+    }
+    
+    /**
+     * Get the rounds played in matches involving a strategy
+     * @param strategy Strategy index
+     * @return Round count
+     */
+    public long getRounds(int strategy) {
+        return rounds[strategy];
+    }
+    
+    /**
+     * Get the single-thread throughput of matches involving a strategy
+     * @param strategy Strategy index
+     * @return Rounds per second of worker time, or 0 if none was spent
+     */
+    public double getRoundsPerSecond(int strategy) {
+        return nanos[strategy] == 0 ? 0 : rounds[strategy] * 1_000_000_000.0 / nanos[strategy];
+    }
+    
+    /**
+     * Get the overall throughput across all workers
+     * @return Rounds per second of wall time
+     */
+    public double getTotalRoundsPerSecond() {
+        long total = 0;
+        for (long r : rounds) {
+            total += r;
+        }
+        // Every round is counted once for each of its two strategies
+        return elapsedNanos == 0 ? 0 : total / 2 * 1_000_000_000.0 / elapsedNanos;
+    }
+    
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+    
+    public int getThreads() {
+        return threads;
+    }
+    
+    @Override
+    public String toString() {
+        int n = table.size();
+        int width = 8;
+        for (int i = 0; i < n; i++) {
+            width = Math.max(width, table.getName(i).length());
+        }
+        String nameFormat = "%-" + width + "s";
+        StringBuilder text = new StringBuilder(String.format(nameFormat, ""));
+        for (int j = 0; j < n; j++) {
+            text.append(String.format(" | %-15s", table.getName(j)));
+        }
+        text.append(" | rounds/s\n");
+        
+        for (int i = 0; i < n; i++) {
+            text.append(String.format(nameFormat, table.getName(i)));
+            for (int j = 0; j < n; j++) {
+                if (i == j || table.getMatches(i, j) == 0) {
+                    text.append(String.format(" | %-15s", "-"));
+                } else {
+                    text.append(String.format(" | %-15s",
+                        String.format("%.3f +/- %.3f", table.getScore(i, j), table.getStandardError(i, j))));
+                }
+            }
+            text.append(String.format(" | %.0f%n", getRoundsPerSecond(i)));
+        }
+        text.append(String.format("Score +/- standard error; %d thread(s), %.3f s, %.0f rounds/s total",
+                                  threads, elapsedNanos / 1e9, getTotalRoundsPerSecond()));
+        return text.toString();
+    }
+}
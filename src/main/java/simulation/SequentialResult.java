@@ -0,0 +1,65 @@
+package simulation;
+
+/**
+ * Outcome of a MatchSimulator run under a SequentialTest
+ */
+public class SequentialResult {
+    private final SimulationResult simulation;
+    private final SequentialTest.Decision decision;
+    private final double logLikelihoodRatio;
+    private final long maxMatches;
+    
+    public SequentialResult(SimulationResult simulation, SequentialTest.Decision decision,
+                            double logLikelihoodRatio, long maxMatches) {
+        this.simulation = simulation;
+        this.decision = decision;
+        this.logLikelihoodRatio = logLikelihoodRatio;
+        this.maxMatches = maxMatches;
+    }
+    
+    /**
+     * Get the counts of the matches actually played
+     * @return The simulation result
+     */
+    public SimulationResult getSimulation() {
+        return simulation;
+    }
+    
+    /**
+     * Get the final decision
+     * @return ACCEPT_H0 or ACCEPT_H1, or CONTINUE if the budget ran out first
+     */
+    public SequentialTest.Decision getDecision() {
+        return decision;
+    }
+    
+    public double getLogLikelihoodRatio() {
+        return logLikelihoodRatio;
+    }
+    
+    public long getMaxMatches() {
+        return maxMatches;
+    }
+    
+    public long getMatchesSaved() {
+        return Math.max(0, maxMatches - simulation.getMatches());
+    }
+    
+    /**
+     * Estimate the rounds the early stop saved, at the average match length observed
+     * @return Estimated rounds not played
+     */
+    public long getRoundsSaved() {
+        if (simulation.getMatches() == 0) {
+            return 0;
+        }
+        return Math.round(getMatchesSaved() * (double) simulation.getRounds() / simulation.getMatches());
+    }
+    
+    @Override
+    public String toString() {
+        return String.format("%s after %d of %d matches (LLR %.2f), saved %d matches / ~%d rounds%n%s",
+                             decision, simulation.getMatches(), maxMatches, logLikelihoodRatio,
+                             getMatchesSaved(), getRoundsSaved(), simulation);
+    }
+}
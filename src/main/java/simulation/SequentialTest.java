@@ -0,0 +1,109 @@
+package simulation;
+
+/**
+ * Sequential probability ratio test on the match score of player 1.
+ * A match scores 1 for a win, 0.5 for a draw and 0 for a loss. The test weighs
+ * H0: expected score is score0 against H1: expected score is score1, using the
+ * normal approximation of the log-likelihood ratio with the variance estimated
+ * from the win/draw/loss counts seen so far, so draws are handled correctly.
+ * The test stops when the ratio leaves the Wald bounds set by alpha and beta.
+ */
+public class SequentialTest {
+
+    /**
+     * State of the test after some matches
+     */
+    public enum Decision {
+        /** Not enough evidence yet */
+        CONTINUE,
+        /** Player 1 scores score0 or less */
+        ACCEPT_H0,
+        /** Player 1 scores score1 or more */
+        ACCEPT_H1
+    }
+    
+    private final double score0;
+    private final double score1;
+    private final double lowerBound;
+    private final double upperBound;
+    
+    /**
+     * Create a test
+     * @param score0 Expected player 1 score under H0, for example 0.5 for equal strength
+     * @param score1 Expected player 1 score under H1, greater than score0
+     * @param alpha Probability of accepting H1 when H0 holds
+     * @param beta Probability of accepting H0 when H1 holds
+     */
+    public SequentialTest(double score0, double score1, double alpha, double beta) {
+        if (!(0 < score0 && score0 < score1 && score1 < 1)) {
+            throw new IllegalArgumentException("Scores must satisfy 0 < score0 < score1 < 1");
+        }
+        if (!(0 < alpha && alpha < 0.5 && 0 < beta && beta < 0.5)) {
+            throw new IllegalArgumentException("alpha and beta must be between 0 and 0.5");
+        }
+        this.score0 = score0;
+        this.score1 = score1;
+        this.lowerBound = Math.log(beta / (1 - alpha));
+        this.upperBound = Math.log((1 - beta) / alpha);
+    }
+    
+    public double getScore0() {
+        return score0;
+    }
+    
+    public double getScore1() {
+        return score1;
+    }
+    
+    public double getLowerBound() {
+        return lowerBound;
+    }
+    
+    public double getUpperBound() {
+        return upperBound;
+    }
+    
+    /**
+     * Get the log-likelihood ratio of H1 over H0
+     * @param wins Matches won by player 1
+     * @param draws Drawn matches
+     * @param losses Matches lost by player 1
+     * @return The ratio, 0 before the first match
+     */
+    public double logLikelihoodRatio(long wins, long draws, long losses) {
+        long matches = wins + draws + losses;
+        if (matches == 0) {
+            return 0;
+        }
+        double mean = (wins + 0.5 * draws) / matches;
+        double variance = (wins * (1 - mean) * (1 - mean)
+                         + draws * (0.5 - mean) * (0.5 - mean)
+                         + losses * mean * mean) / matches;
+        // A one-sided sample (all wins, say) has no variance; assume the uncertainty
+        // of a single match instead so the ratio still grows with the evidence
+        variance = Math.max(variance, 1.0 / (4 * matches));
+        return (score1 - score0) * (2 * mean - score0 - score1) * matches / (2 * variance);
+    }
+    
+    /**
+     * Evaluate the test
+     * @param wins Matches won by player 1
+     * @param draws Drawn matches
+     * @param losses Matches lost by player 1
+     * @return The decision for these counts
+     */
+    public Decision decide(long wins, long draws, long losses) {
+        double llr = logLikelihoodRatio(wins, draws, losses);
+        if (llr >= upperBound) {
+            return Decision.ACCEPT_H1;
+        } else if (llr <= lowerBound) {
+            return Decision.ACCEPT_H0;
+        }
+        return Decision.CONTINUE;
+    }
+    
+    @Override
+    public String toString() {
+        return String.format("SPRT(%.3f vs %.3f, bounds %.2f..%.2f)", score0, score1, lowerBound, upperBound);
+    }
+}
@@ -0,0 +1,78 @@
+package simulation;
+
+/**
+ * Aggregated outcome of a batch of headless matches
+ */
+public class SimulationResult {
+    private final long matches;
+    private final long rounds;
+    private final long player1Wins;
+    private final long player2Wins;
+    private final long draws;
+    private final long elapsedNanos;
+    private final int threads;
+    
+    public SimulationResult(long matches, long rounds, long player1Wins, long player2Wins,
+                            long draws, long elapsedNanos, int threads) {
+        this.matches = matches;
+        this.rounds = rounds;
+        this.player1Wins = player1Wins;
+        this.player2Wins = player2Wins;
+        this.draws = draws;
+        this.elapsedNanos = elapsedNanos;
+        this.threads = threads;
+    }
+    
+    public long getMatches() {
+        return matches;
+    }
+    
+    public long getRounds() {
+        return rounds;
+    }
+    
+    public long getPlayer1Wins() {
+        return player1Wins;
+    }
+    
+    public long getPlayer2Wins() {
+        return player2Wins;
+    }
+    
+    public long getDraws() {
+        return draws;
+    }
+    
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+    
+    public int getThreads() {
+        return threads;
+    }
+    
+    /**
+     * Get throughput in completed matches per second
+     * @return Matches per second, or 0 if no time has elapsed
+     */
+    public double getMatchesPerSecond() {
+        return elapsedNanos == 0 ? 0 : matches * 1_000_000_000.0 / elapsedNanos;
+    }
+    
+    /**
+     * Get throughput in resolved rounds per second
+     * @return Rounds per second, or 0 if no time has elapsed
+     */
+    public double getRoundsPerSecond() {
+        return elapsedNanos == 0 ? 0 : rounds * 1_000_000_000.0 / elapsedNanos;
+    }
+    
+    @Override
+    public String toString() {
+        return String.format("%d matches (%d rounds) on %d thread(s) in %.3f s: "
+                           + "%.0f matches/s, %.0f rounds/s | P1 %d, P2 %d, draws %d",
+                           matches, rounds, threads, elapsedNanos / 1e9,
+                           getMatchesPerSecond(), getRoundsPerSecond(),
+                           player1Wins, player2Wins, draws);
+    }
+}
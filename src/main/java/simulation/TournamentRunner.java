@@ -0,0 +1,291 @@
+package simulation;
+
+import game.GameEngine;
+import game.GameMode;
+import player.ComputerPlayer;
+import player.Player;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Function;
+
+/**
+ * Plays strategies against each other and collects the results in a CrossTable.
+ * Every pairing (two strategies playing a fixed number of matches) is an independent
+ * task with its own engine and players. Each task seeds its players from the tournament
+ * seed and its own coordinates, and results are merged in schedule order, so a run is
+ * fully reproducible for a given seed regardless of thread count or completion order.
+ */
+public class TournamentRunner {
+
+    /**
+     * How pairings are scheduled
+     */
+    public enum Format {
+        /** Every strategy plays every other strategy once */
+        ROUND_ROBIN,
+        /** Strategies with similar scores are paired each round, avoiding rematches */
+        SWISS
+    }
+    
+    /**
+     * A named strategy and how to build a player for it
+     */
+    public static final class Strategy {
+        private final String name;
+        private final Function<Random, ? extends Player> factory;
+        
+        /**
+         * Create a strategy
+         * @param name Name shown in the cross-table
+         * @param factory Builds a player from a seeded Random; players must draw all
+         *                randomness from it for runs to be reproducible
+         */
+        public Strategy(String name, Function<Random, ? extends Player> factory) {
+            this.name = name;
+            this.factory = factory;
+        }
+        
+        public String getName() {
+            return name;
+        }
+        
+        Player create(Random random) {
+            return factory.apply(random);
+        }
+    }
+    
+    private final List<Strategy> strategies;
+    private final int maxRounds;
+    private final int matchesPerPairing;
+    private final long seed;
+    
+    /**
+     * Create a runner
+     * @param strategies Strategies to compare, at least two
+     * @param maxRounds Maximum number of rounds per match
+     * @param matchesPerPairing Matches played each time two strategies meet
+     * @param seed Seed for every player of the tournament
+     */
+    public TournamentRunner(List<Strategy> strategies, int maxRounds, int matchesPerPairing, long seed) {
+        if (strategies.size() < 2) {
+            throw new IllegalArgumentException("A tournament needs at least two strategies");
+        }
+        if (maxRounds < 1 || matchesPerPairing < 1) {
+            throw new IllegalArgumentException("maxRounds and matchesPerPairing must be at least 1");
+        }
+        this.strategies = new ArrayList<>(strategies);
+        this.maxRounds = maxRounds;
+        this.matchesPerPairing = matchesPerPairing;
+        this.seed = seed;
+    }
+    
+    /**
+     * Play every strategy against every other
+     * @param threads Number of worker threads
+     * @return The cross-table
+     */
+    public CrossTable runRoundRobin(int threads) {
+        int n = strategies.size();
+        List<int[]> pairings = new ArrayList<>();
+        for (int i = 0; i < n; i++) {
+            for (int j = i + 1; j < n; j++) {
+                pairings.add(new int[] {i, j});
+            }
+        }
+        
+        CrossTable table = new CrossTable(names());
+        ExecutorService executor = Executors.newFixedThreadPool(Math.max(1, threads));
+        try {
+            playAll(executor, table, pairings, 0);
+        } finally {
+            executor.shutdownNow();
+        }
+        return table;
+    }
+    
+    /**
+     * Play a Swiss tournament. Each round ranks strategies by score and pairs each
+     * one with the highest-ranked opponent it has not met yet; with an odd number of
+     * strategies the lowest-ranked one without a bye sits the round out.
+     * @param rounds Number of Swiss rounds
+     * @param threads Number of worker threads
+     * @return The cross-table
+     */
+    public CrossTable runSwiss(int rounds, int threads) {
+        int n = strategies.size();
+        CrossTable table = new CrossTable(names());
+        boolean[][] met = new boolean[n][n];
+        boolean[] hadBye = new boolean[n];
+        
+        ExecutorService executor = Executors.newFixedThreadPool(Math.max(1, threads));
+        try {
+            for (int round = 0; round < rounds; round++) {
+                Integer[] ranking = new Integer[n];
+                for (int i = 0; i < n; i++) {
+                    ranking[i] = i;
+                }
+                // Stable sort: ties keep strategy order, so pairing stays deterministic
+                Arrays.sort(ranking, (a, b) -> Double.compare(table.getTotalScore(b), table.getTotalScore(a)));
+                
+                boolean[] paired = new boolean[n];
+                if (n % 2 != 0) {
+                    int bye = ranking[n - 1];
+                    for (int k = n - 1; k >= 0; k--) {
+                        if (!hadBye[ranking[k]]) {
+                            bye = ranking[k];
+                            break;
+                        }
+                    }
+                    hadBye[bye] = true;
+                    paired[bye] = true;
+                }
+                
+                List<int[]> pairings = new ArrayList<>();
+                for (int a = 0; a < n; a++) {
+                    int first = ranking[a];
+                    if (paired[first]) {
+                        continue;
+                    }
+                    int opponent = -1;
+                    for (int b = a + 1; b < n; b++) {
+                        int candidate = ranking[b];
+                        if (!paired[candidate] && (opponent < 0 || !met[first][candidate])) {
+                            opponent = candidate;
+                            if (!met[first][candidate]) {
+                                break;
+                            }
+                        }
+                    }
+                    if (opponent < 0) {
+                        continue;
+                    }
+                    paired[first] = true;
+                    paired[opponent] = true;
+                    met[first][opponent] = true;
+                    met[opponent][first] = true;
+                    pairings.add(new int[] {first, opponent});
+                }
+                playAll(executor, table, pairings, round);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        return table;
+    }
+    
+    /**
+     * Run the tournament in the given format; Swiss uses ceil(log2(n)) + 1 rounds
+     * @param format Scheduling format
+     * @param threads Number of worker threads
+     * @return The cross-table
+     */
+    public CrossTable run(Format format, int threads) {
+        if (format == Format.ROUND_ROBIN) {
+            return runRoundRobin(threads);
+        }
+        int rounds = 32 - Integer.numberOfLeadingZeros(strategies.size() - 1) + 1;
+        return runSwiss(rounds, threads);
+    }
+    
+    private void playAll(ExecutorService executor, CrossTable table, List<int[]> pairings, int round) {
+        List<Future<long[]>> futures = new ArrayList<>();
+        for (int[] pairing : pairings) {
+            futures.add(executor.submit(new PairingTask(pairing[0], pairing[1], round)));
+        }
+        try {
+            for (int k = 0; k < pairings.size(); k++) {
+                long[] counts = futures.get(k).get();
+                table.record(pairings.get(k)[0], pairings.get(k)[1], counts[0], counts[1], counts[2]);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Tournament interrupted", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Tournament pairing failed", e.getCause());
+        }
+    }
+    
+    private String[] names() {
+        String[] names = new String[strategies.size()];
+        for (int i = 0; i < names.length; i++) {
+            names[i] = strategies.get(i).getName();
+        }
+        return names;
+    }
+    
+    /**
+     * Derive an independent seed from the tournament seed and task coordinates
+     * (SplitMix64 finalizer over the combined value)
+     */
+    private static long mix(long seed, long a, long b, long c) {
+        long z = seed + 0x9E3779B97F4A7C15L * (1 + a + 31 * (b + 31 * c));
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+    
+    /**
+     * Plays all matches of one pairing on its own engine.
+     * Returns {first wins, second wins, draws}.
+     */
+    private class PairingTask implements Callable<long[]> {
+        private final int first;
+        private final int second;
+        private final int round;
+        
+        PairingTask(int first, int second, int round) {
+            this.first = first;
+            this.second = second;
+            this.round = round;
+        }
+        
+        @Override
+        public long[] call() {
+            GameEngine engine = new GameEngine();
+            Player player1 = strategies.get(first).create(new Random(mix(seed, round, first, second)));
+            Player player2 = strategies.get(second).create(new Random(mix(seed, round, second, first)));
+            long[] counts = new long[3];
+            
+            for (int i = 0; i < matchesPerPairing; i++) {
+                engine.initializeGame(GameMode.PLAYER_VS_COMPUTER, maxRounds, player1, player2);
+                int winner = engine.playGame();
+                if (winner == 1) {
+                    counts[0]++;
+                } else if (winner == 2) {
+                    counts[1]++;
+                } else {
+                    counts[2]++;
+                }
+            }
+            return counts;
+        }
+    }
+    
+    /**
+     * Command-line entry point comparing the built-in computer difficulties.
+     * Usage: TournamentRunner [ROUND_ROBIN|SWISS] [matchesPerPairing] [maxRounds] [seed] [threads]
+     */
+    public static void main(String[] args) {
+        Format format = args.length > 0 ? Format.valueOf(args[0]) : Format.ROUND_ROBIN;
+        int matches = args.length > 1 ? Integer.parseInt(args[1]) : 10_000;
+        int maxRounds = args.length > 2 ? Integer.parseInt(args[2]) : 3;
+        long seed = args.length > 3 ? Long.parseLong(args[3]) : 42L;
+        int threads = args.length > 4 ? Integer.parseInt(args[4])
+                                      : Runtime.getRuntime().availableProcessors();
+        
+        List<Strategy> strategies = new ArrayList<>();
+        strategies.add(new Strategy("Easy", random -> new ComputerPlayer("Easy", 0, random)));
+        strategies.add(new Strategy("Medium", random -> new ComputerPlayer("Medium", 1, random)));
+        strategies.add(new Strategy("Hard", random -> new ComputerPlayer("Hard", 2, random)));
+        
+        TournamentRunner runner = new TournamentRunner(strategies, maxRounds, matches, seed);
+        System.out.println(runner.run(format, threads));
+    }
+}
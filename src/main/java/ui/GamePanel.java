@@ -7,6 +7,7 @@ import java.awt.event.ActionListener;
 import audio.SoundManager;
 import game.GameMode;
 import game.Gesture;
+import game.GestureRules;
 
 /**
  * Simple and effective GamePanel for Player vs Computer mode
@@ -587,15 +588,11 @@ public class GamePanel extends JPanel {
     }
     
     private String determineWinner(Gesture player, Gesture computer) {
-        if (player == computer) {
-            return "Draw!";
+        switch (Gesture.outcome(player, computer)) {
+            case GestureRules.FIRST_WINS: return "You Win!";
+            case GestureRules.SECOND_WINS: return "Computer Wins!";
+            default: return "Draw!";
         }
-        
-        boolean playerWins = (player == Gesture.ROCK && computer == Gesture.SCISSORS) ||
-                           (player == Gesture.PAPER && computer == Gesture.ROCK) ||
-                           (player == Gesture.SCISSORS && computer == Gesture.PAPER);
-        
-        return playerWins ? "You Win!" : "Computer Wins!";
     }
     
     private void updateChoiceDisplay(JLabel choiceLabel, Gesture choice) {
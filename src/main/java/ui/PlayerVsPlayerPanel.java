@@ -6,6 +6,7 @@ import java.awt.event.KeyEvent;
 import java.awt.event.KeyListener;
 import java.awt.geom.RoundRectangle2D;
 import game.Gesture;
+import game.GestureRules;
 import game.GameMode;
 import audio.SoundManager;
 
@@ -748,13 +749,11 @@ public class PlayerVsPlayerPanel extends JPanel implements KeyListener {
     }
     
     private String determineWinner(Gesture p1, Gesture p2) {
-        if (p1 == p2) return "Draw!";
-        
-        boolean p1Wins = (p1 == Gesture.ROCK && p2 == Gesture.SCISSORS) ||
-                         (p1 == Gesture.PAPER && p2 == Gesture.ROCK) ||
-                         (p1 == Gesture.SCISSORS && p2 == Gesture.PAPER);
-        
-        return p1Wins ? "Player 1 Wins!" : "Player 2 Wins!";
+        switch (Gesture.outcome(p1, p2)) {
+            case GestureRules.FIRST_WINS: return "Player 1 Wins!";
+            case GestureRules.SECOND_WINS: return "Player 2 Wins!";
+            default: return "Draw!";
+        }
     }
     
     private void updateScoreDisplay() {
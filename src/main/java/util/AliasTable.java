@@ -0,0 +1,92 @@
+package util;
+
+import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Samples from a fixed discrete distribution in O(1) per draw (Vose's alias method).
+ * Building the table is O(n); each draw picks a column uniformly and then either
+ * keeps it or takes its alias, so the cost does not depend on the number of outcomes.
+ */
+public final class AliasTable {
+    private final double[] probability;
+    private final int[] alias;
+    
+    /**
+     * Build a table
+     * @param weights Non-negative weights, not necessarily normalized
+     */
+    public AliasTable(double[] weights) {
+        int n = weights.length;
+        if (n == 0) {
+            throw new IllegalArgumentException("At least one weight is required");
+        }
+        double sum = 0;
+        for (double weight : weights) {
+            if (weight < 0 || Double.isNaN(weight)) {
+                throw new IllegalArgumentException("Weights must be non-negative");
+            }
+            sum += weight;
+        }
+        if (sum <= 0) {
+            throw new IllegalArgumentException("Weights must not all be zero");
+        }
+        
+        probability = new double[n];
+        alias = new int[n];
+        double[] scaled = new double[n];
+        int[] small = new int[n];
+        int[] large = new int[n];
+        int smallCount = 0;
+        int largeCount = 0;
+        for (int i = 0; i < n; i++) {
+            scaled[i] = weights[i] * n / sum;
+            if (scaled[i] < 1) {
+                small[smallCount++] = i;
+            } else {
+                large[largeCount++] = i;
+            }
+        }
+        while (smallCount > 0 && largeCount > 0) {
+            int less = small[--smallCount];
+            int more = large[--largeCount];
+            probability[less] = scaled[less];
+            alias[less] = more;
+            scaled[more] = (scaled[more] + scaled[less]) - 1;
+            if (scaled[more] < 1) {
+                small[smallCount++] = more;
+            } else {
+                large[largeCount++] = more;
+            }
+        }
+        // Whatever is left is 1 up to rounding
+        while (largeCount > 0) {
+            probability[large[--largeCount]] = 1;
+        }
+        while (smallCount > 0) {
+            probability[small[--smallCount]] = 1;
+        }
+    }
+    
+    public int size() {
+        return probability.length;
+    }
+    
+    /**
+     * Draw an outcome
+     * @param random Source of randomness
+     * @return Outcome index
+     */
+    public int sample(Random random) {
+        int column = random.nextInt(probability.length);
+        return random.nextDouble() < probability[column] ? column : alias[column];
+    }
+    
+    /**
+     * Draw an outcome using the current thread's random generator
+     * @return Outcome index
+     */
+    public int sample() {
+        return sample(ThreadLocalRandom.current());
+    }
+}
@@ -0,0 +1,100 @@
+package util;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Properties;
+
+/**
+ * Read-only access to config/game.properties
+ */
+public class GameConfig {
+    private static final String RESOURCE_PATH = "/config/game.properties";
+    private static final GameConfig DEFAULT = load(RESOURCE_PATH);
+    
+    public static final long DEFAULT_COUNTDOWN_DURATION = 3000;
+    public static final int DEFAULT_MAX_ROUNDS = 99;
+    
+    private final Properties properties;
+    
+    public GameConfig(Properties properties) {
+        this.properties = properties;
+    }
+    
+    /**
+     * Get the configuration loaded from the bundled game.properties
+     * @return The shared default configuration
+     */
+    public static GameConfig getDefault() {
+        return DEFAULT;
+    }
+    
+    /**
+     * Load a configuration from a classpath resource.
+     * A missing or unreadable resource yields an empty configuration so defaults apply.
+     * @param resourcePath Absolute classpath resource path
+     * @return The loaded configuration
+     */
+    public static GameConfig load(String resourcePath) {
+        Properties properties = new Properties();
+        try (InputStream in = GameConfig.class.getResourceAsStream(resourcePath)) {
+            if (in != null) {
+                properties.load(in);
+            } else {
+                System.out.println("Config file not found: " + resourcePath);
+            }
+        } catch (IOException e) {
+            System.out.println("Error loading config " + resourcePath + ": " + e.getMessage());
+        }
+        return new GameConfig(properties);
+    }
+    
+    public String getString(String key, String defaultValue) {
+        return properties.getProperty(key, defaultValue);
+    }
+    
+    public int getInt(String key, int defaultValue) {
+        return (int) getLong(key, defaultValue);
+    }
+    
+    public long getLong(String key, long defaultValue) {
+        String value = properties.getProperty(key);
+        if (value == null) {
+            return defaultValue;
+        }
+        try {
+            return Long.parseLong(value.trim());
+        } catch (NumberFormatException e) {
+            System.out.println("Invalid number for " + key + ": " + value);
+            return defaultValue;
+        }
+    }
+    
+    public double getDouble(String key, double defaultValue) {
+        String value = properties.getProperty(key);
+        if (value == null) {
+            return defaultValue;
+        }
+        try {
+            return Double.parseDouble(value.trim());
+        } catch (NumberFormatException e) {
+            System.out.println("Invalid number for " + key + ": " + value);
+            return defaultValue;
+        }
+    }
+    
+    /**
+     * Get the round countdown duration (game.countdown.duration)
+     * @return Countdown duration in milliseconds
+     */
+    public long getCountdownDuration() {
+        return getLong("game.countdown.duration", DEFAULT_COUNTDOWN_DURATION);
+    }
+    
+    /**
+     * Get the largest number of rounds a match may be configured with (game.max.rounds)
+     * @return Maximum rounds per match
+     */
+    public int getMaxRounds() {
+        return getInt("game.max.rounds", DEFAULT_MAX_ROUNDS);
+    }
+}
@@ -0,0 +1,52 @@
+package util;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.text.MessageFormat;
+import java.util.Properties;
+
+/**
+ * Text lookups from config/messages.properties
+ */
+public class Messages {
+    private static final String RESOURCE_PATH = "/config/messages.properties";
+    private static final Properties PROPERTIES = load();
+    
+    private Messages() {
+    }
+    
+    private static Properties load() {
+        Properties properties = new Properties();
+        try (InputStream in = Messages.class.getResourceAsStream(RESOURCE_PATH)) {
+            if (in != null) {
+                properties.load(in);
+            } else {
+                System.out.println("Messages file not found: " + RESOURCE_PATH);
+            }
+        } catch (IOException e) {
+            System.out.println("Error loading messages: " + e.getMessage());
+        }
+        return properties;
+    }
+    
+    /**
+     * Get a plain message
+     * @param key Message key
+     * @param defaultText Text used if the key is missing
+     * @return The message text
+     */
+    public static String get(String key, String defaultText) {
+        return PROPERTIES.getProperty(key, defaultText);
+    }
+    
+    /**
+     * Get a message with {0}-style placeholders filled in
+     * @param key Message key
+     * @param defaultPattern Pattern used if the key is missing
+     * @param arguments Placeholder values
+     * @return The formatted message
+     */
+    public static String format(String key, String defaultPattern, Object... arguments) {
+        return MessageFormat.format(get(key, defaultPattern), arguments);
+    }
+}
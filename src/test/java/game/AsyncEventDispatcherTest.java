@@ -0,0 +1,174 @@
+package game;
+
+import game.GameEngine.GameEngineListener;
+import player.CyclingPlayer;
+import org.junit.jupiter.api.Test;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the ring-buffer AsyncEventDispatcher
+ */
+public class AsyncEventDispatcherTest {
+    
+    /**
+     * Records round numbers, optionally waiting for a latch before the first event
+     */
+    private static class RecordingListener implements GameEngineListener {
+        final List<Integer> rounds = new ArrayList<>();
+        final List<GameState> states = new ArrayList<>();
+        final CountDownLatch gate;
+        volatile Thread thread;
+        
+        RecordingListener(CountDownLatch gate) {
+            this.gate = gate;
+        }
+        
+        @Override
+        public void onGameInitialized(GameState gameState) {
+            states.add(gameState);
+        }
+        
+        @Override
+        public void onRoundStarted(int roundNumber) {
+            thread = Thread.currentThread();
+            try {
+                gate.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            rounds.add(roundNumber);
+        }
+        
+        @Override
+        public void onPlayerGestureSubmitted(int playerNumber, Gesture gesture) {
+        }
+        
+        @Override
+        public void onRoundResult(Gesture gesture1, Gesture gesture2, int winner, String message) {
+        }
+        
+        @Override
+        public void onGameEnded(int winner, GameState gameState) {
+            states.add(gameState);
+        }
+    }
+    
+    @Test
+    public void testEachConsumerSeesEventsInOrder() {
+        AsyncEventDispatcher dispatcher = new AsyncEventDispatcher(8, AsyncEventDispatcher.WaitStrategy.YIELDING);
+        RecordingListener first = new RecordingListener(new CountDownLatch(0));
+        RecordingListener second = new RecordingListener(new CountDownLatch(0));
+        dispatcher.addListener(first);
+        dispatcher.addListener(second);
+        dispatcher.start();
+        assertThrows(IllegalStateException.class, () -> dispatcher.addListener(new RecordingListener(null)));
+        
+        int events = 20_000;
+        for (int i = 0; i < events; i++) {
+            dispatcher.onRoundStarted(i);
+        }
+        dispatcher.shutdown();
+        
+        for (RecordingListener listener : new RecordingListener[] {first, second}) {
+            assertEquals(events, listener.rounds.size());
+            for (int i = 0; i < events; i++) {
+                assertEquals(i, listener.rounds.get(i));
+            }
+        }
+        assertNotSame(first.thread, second.thread);
+    }
+    
+    @Test
+    public void testProducerWaitsWhenRingWraps() throws InterruptedException {
+        AsyncEventDispatcher dispatcher = new AsyncEventDispatcher(3, AsyncEventDispatcher.WaitStrategy.SLEEPING);
+        assertEquals(4, dispatcher.getCapacity());
+        CountDownLatch gate = new CountDownLatch(1);
+        RecordingListener slow = new RecordingListener(gate);
+        dispatcher.addListener(slow);
+        dispatcher.start();
+        
+        Thread producer = new Thread(() -> {
+            for (int i = 0; i < 10; i++) {
+                dispatcher.onRoundStarted(i);
+            }
+        });
+        producer.start();
+        producer.join(200);
+        // The listener holds its first event, so only a ring's worth beyond it can be published
+        assertTrue(producer.isAlive());
+        assertEquals(dispatcher.getCapacity(), dispatcher.getLag(slow));
+        
+        gate.countDown();
+        producer.join(TimeUnit.SECONDS.toMillis(10));
+        assertFalse(producer.isAlive());
+        dispatcher.shutdown();
+        assertEquals(10, slow.rounds.size());
+        assertEquals(0, dispatcher.getLag(slow));
+        assertTrue(dispatcher.getMaxLag(slow) >= 1 && dispatcher.getMaxLag(slow) <= dispatcher.getCapacity());
+    }
+    
+    @Test
+    public void testLagOfUnknownListener() {
+        AsyncEventDispatcher dispatcher = new AsyncEventDispatcher(16, AsyncEventDispatcher.WaitStrategy.BUSY_SPIN);
+        RecordingListener listener = new RecordingListener(new CountDownLatch(0));
+        dispatcher.addListener(listener);
+        assertEquals(0, dispatcher.getLag(listener));
+        dispatcher.onRoundStarted(1);
+        dispatcher.onRoundStarted(2);
+        // Not started yet: everything published is pending
+        assertEquals(2, dispatcher.getLag(listener));
+        assertEquals(0, dispatcher.getMaxLag(listener));
+        assertEquals(-1, dispatcher.getLag(new RecordingListener(null)));
+        assertEquals(-1, dispatcher.getMaxLag(new RecordingListener(null)));
+        
+        dispatcher.start();
+        dispatcher.shutdown();
+        assertEquals(0, dispatcher.getLag(listener));
+        assertEquals(2, dispatcher.getMaxLag(listener));
+    }
+    
+    @Test
+    public void testShutdownDrainsPublishedEvents() {
+        AsyncEventDispatcher dispatcher = new AsyncEventDispatcher(1024, AsyncEventDispatcher.WaitStrategy.SLEEPING);
+        CountDownLatch gate = new CountDownLatch(1);
+        RecordingListener listener = new RecordingListener(gate);
+        dispatcher.addListener(listener);
+        dispatcher.start();
+        for (int i = 0; i < 500; i++) {
+            dispatcher.onRoundStarted(i);
+        }
+        gate.countDown();
+        dispatcher.shutdown();
+        assertEquals(500, listener.rounds.size());
+        assertEquals(499, listener.rounds.get(499));
+    }
+    
+    @Test
+    public void testListenersGetPrivateGameStates() {
+        AsyncEventDispatcher dispatcher = new AsyncEventDispatcher(64, AsyncEventDispatcher.WaitStrategy.YIELDING);
+        RecordingListener listener = new RecordingListener(new CountDownLatch(0));
+        dispatcher.addListener(listener);
+        dispatcher.start();
+        
+        GameEngine engine = new GameEngine(new VirtualClock(), 3000);
+        engine.addListener(dispatcher);
+        engine.initializeGame(GameMode.PLAYER_VS_PLAYER, 3, new CyclingPlayer("A", Gesture.PAPER),
+                              new CyclingPlayer("B", Gesture.ROCK));
+        engine.playGame();
+        dispatcher.shutdown();
+        
+        GameState initialized = listener.states.get(0);
+        GameState ended = listener.states.get(1);
+        assertNotSame(engine.getGameState(), initialized);
+        assertNotSame(engine.getGameState(), ended);
+        // Each listener sees the state as of its callback, not the engine's later state
+        assertEquals(0, initialized.getCurrentRound());
+        assertEquals(2, ended.getCurrentRound());
+        assertEquals(1, ended.getGameWinner());
+        assertEquals(Integer.valueOf(1), listener.rounds.get(0));
+    }
+}
@@ -0,0 +1,69 @@
+package game;
+
+import org.junit.jupiter.api.Test;
+import java.nio.ByteBuffer;
+import java.util.Random;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the BatchResolver bulk API
+ */
+public class BatchResolverTest {
+    
+    @Test
+    public void testMatchesPerPairOutcome() {
+        for (GestureRules rules : new GestureRules[] {
+                GestureRules.CLASSIC, GestureRules.LIZARD_SPOCK, GestureRules.RPS_15}) {
+            BatchResolver resolver = new BatchResolver(rules);
+            int n = rules.size();
+            byte[] first = new byte[n * n];
+            byte[] second = new byte[n * n];
+            for (int i = 0; i < n * n; i++) {
+                first[i] = (byte) (i / n);
+                second[i] = (byte) (i % n);
+            }
+            
+            byte[] results = new byte[n * n];
+            BatchResolver.Counts counts = resolver.resolve(first, second, results);
+            
+            for (int i = 0; i < n * n; i++) {
+                assertEquals(rules.outcome(first[i], second[i]), results[i]);
+            }
+            assertEquals(n, counts.getDraws());
+            assertEquals(counts.getFirstWins(), counts.getSecondWins());
+        }
+    }
+    
+    @Test
+    public void testParallelAndBufferAgree() {
+        Random random = new Random(42);
+        byte[] first = new byte[1 << 20];
+        byte[] second = new byte[1 << 20];
+        for (int i = 0; i < first.length; i++) {
+            first[i] = (byte) random.nextInt(3);
+            second[i] = (byte) random.nextInt(3);
+        }
+        BatchResolver resolver = new BatchResolver();
+        
+        BatchResolver.Counts sequential = resolver.resolve(first, second);
+        BatchResolver.Counts parallel = resolver.resolveParallel(first, second, null, 4);
+        BatchResolver.Counts buffered = resolver.resolve(
+            ByteBuffer.allocateDirect(first.length).put(first).flip(),
+            ByteBuffer.allocateDirect(second.length).put(second).flip());
+        
+        assertEquals(first.length, sequential.getTotal());
+        assertEquals(sequential.getFirstWins(), parallel.getFirstWins());
+        assertEquals(sequential.getSecondWins(), parallel.getSecondWins());
+        assertEquals(sequential.getFirstWins(), buffered.getFirstWins());
+        assertEquals(sequential.getDraws(), buffered.getDraws());
+    }
+    
+    @Test
+    public void testEncode() {
+        byte[] first = BatchResolver.encode(Gesture.SCISSORS, Gesture.ROCK);
+        byte[] second = BatchResolver.encode(Gesture.PAPER, Gesture.PAPER);
+        BatchResolver.Counts counts = new BatchResolver().resolve(first, second);
+        assertEquals(1, counts.getFirstWins());
+        assertEquals(1, counts.getSecondWins());
+    }
+}
@@ -0,0 +1,117 @@
+package game;
+
+import player.ComputerPlayer;
+import org.junit.jupiter.api.Test;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for free-for-all round resolution
+ */
+public class FreeForAllResolverTest {
+    
+    /**
+     * Pairwise reference: O(N^2) comparisons through the rule table
+     */
+    private int pairwisePoints(GestureRules rules, FreeForAllResolver.Scoring scoring, byte[] gestures, int player) {
+        int mine = gestures[player];
+        if (mine == FreeForAllResolver.NONE) {
+            return 0;
+        }
+        int beaten = 0;
+        for (int other = 0; other < gestures.length; other++) {
+            if (other == player) {
+                continue;
+            }
+            int theirs = gestures[other];
+            if (theirs == FreeForAllResolver.NONE || rules.beats(mine, theirs)) {
+                beaten++;
+            } else if (theirs != mine && scoring == FreeForAllResolver.Scoring.BEATS_ALL_PRESENT) {
+                return 0;
+            }
+        }
+        if (scoring == FreeForAllResolver.Scoring.POINTS_PER_BEATEN) {
+            return beaten;
+        }
+        return beaten > 0 ? 1 : 0;
+    }
+    
+    @Test
+    public void testMatchesPairwiseComparison() {
+        Random random = new Random(7);
+        for (GestureRules rules : new GestureRules[] {GestureRules.CLASSIC, GestureRules.LIZARD_SPOCK}) {
+            for (FreeForAllResolver.Scoring scoring : FreeForAllResolver.Scoring.values()) {
+                FreeForAllResolver resolver = new FreeForAllResolver(rules, scoring);
+                for (int trial = 0; trial < 200; trial++) {
+                    byte[] gestures = new byte[2 + random.nextInt(40)];
+                    // Few distinct gestures per trial so BEATS_ALL_PRESENT has winners
+                    int distinct = 1 + random.nextInt(2);
+                    int base = random.nextInt(rules.size());
+                    for (int i = 0; i < gestures.length; i++) {
+                        gestures[i] = random.nextInt(10) == 0 ? FreeForAllResolver.NONE
+                            : (byte) ((base + random.nextInt(distinct)) % rules.size());
+                    }
+                    
+                    FreeForAllOutcome outcome = resolver.resolve(gestures, gestures.length);
+                    int scoringPlayers = 0;
+                    for (int i = 0; i < gestures.length; i++) {
+                        int expected = pairwisePoints(rules, scoring, gestures, i);
+                        assertEquals(expected, outcome.getPoints(i));
+                        if (expected > 0) {
+                            scoringPlayers++;
+                        }
+                    }
+                    assertEquals(scoringPlayers, outcome.getScoringPlayers());
+                }
+            }
+        }
+    }
+    
+    @Test
+    public void testAllGesturesPresentIsDraw() {
+        FreeForAllResolver resolver = new FreeForAllResolver(FreeForAllResolver.Scoring.BEATS_ALL_PRESENT);
+        FreeForAllOutcome outcome = resolver.resolve(
+            BatchResolver.encode(Gesture.ROCK, Gesture.PAPER, Gesture.SCISSORS, Gesture.ROCK), 4);
+        
+        assertTrue(outcome.isDraw());
+        assertEquals(2, outcome.getCount(Gesture.ROCK.ordinal()));
+    }
+    
+    @Test
+    public void testEnginePlaysFreeForAll() {
+        List<ComputerPlayer> players = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            players.add(new ComputerPlayer("Computer " + i, 0));
+        }
+        GameEngine engine = new GameEngine(new VirtualClock(), 3000);
+        long[] points = new long[200];
+        int[] endedWith = {-1};
+        engine.addListener(new GameEngine.GameEngineListener() {
+            public void onGameInitialized(GameState gameState) {}
+            public void onRoundStarted(int roundNumber) {}
+            public void onPlayerGestureSubmitted(int playerNumber, Gesture gesture) {}
+            public void onRoundResult(Gesture gesture1, Gesture gesture2, int winner, String message) {}
+            public void onFreeForAllOutcome(FreeForAllOutcome outcome) {
+                for (int i = 0; i < outcome.getPlayerCount(); i++) {
+                    points[i] += outcome.getPoints(i);
+                }
+            }
+            public void onGameEnded(int winner, GameState gameState) {
+                endedWith[0] = winner;
+            }
+        });
+        engine.initializeFreeForAll(25, players,
+                                    new FreeForAllResolver(FreeForAllResolver.Scoring.POINTS_PER_BEATEN));
+        int leader = engine.playFreeForAllGame();
+        
+        assertEquals(leader, endedWith[0]);
+        assertEquals(25, engine.getGameState().getCurrentRound());
+        assertEquals(GameMode.FREE_FOR_ALL, engine.getSnapshot().getMode());
+        for (int i = 0; i < 200; i++) {
+            assertEquals(points[i], engine.getFreeForAllScore(i + 1));
+        }
+        assertFalse(engine.playFreeForAllRound());
+    }
+}
@@ -0,0 +1,170 @@
+package game;
+
+import player.ComputerPlayer;
+import player.CyclingPlayer;
+import player.GestureRingBuffer;
+import org.junit.jupiter.api.Test;
+import java.util.Arrays;
+import java.util.Random;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for copy-on-write GameEngine forks
+ */
+public class GameEngineForkTest {
+    
+    private GameEngine playOpening(int maxRounds, int rounds) {
+        GameEngine engine = new GameEngine(new VirtualClock(), 3000);
+        engine.initializeGame(GameMode.PLAYER_VS_COMPUTER, maxRounds,
+                              new CyclingPlayer("Cycler", Gesture.ROCK, Gesture.PAPER, Gesture.SCISSORS),
+                              new ComputerPlayer("Computer", 2, new Random(1)));
+        for (int i = 0; i < rounds; i++) {
+            assertTrue(engine.playRound());
+        }
+        return engine;
+    }
+    
+    @Test
+    public void testForkStartsAtSamePoint() {
+        GameEngine engine = playOpening(99, 20);
+        GameEngine fork = engine.fork();
+        
+        assertEquals(engine.getPackedSnapshot(), fork.getPackedSnapshot());
+        assertNotSame(engine.getGameState(), fork.getGameState());
+        assertNotSame(engine.getPlayer2(), fork.getPlayer2());
+        GestureRingBuffer parentHistory = ((ComputerPlayer) engine.getPlayer2()).getOpponentHistory();
+        GestureRingBuffer forkHistory = ((ComputerPlayer) fork.getPlayer2()).getOpponentHistory();
+        assertEquals(parentHistory.size(), forkHistory.size());
+        for (int age = 0; age < parentHistory.size(); age++) {
+            assertEquals(parentHistory.get(age), forkHistory.get(age));
+        }
+    }
+    
+    @Test
+    public void testBranchesDoNotAffectParent() {
+        GameEngine engine = playOpening(99, 20);
+        long parentState = engine.getPackedSnapshot();
+        int parentHistory = ((ComputerPlayer) engine.getPlayer2()).getOpponentHistory().size();
+        int parentScissors = ((ComputerPlayer) engine.getPlayer2()).getOpponentCount(Gesture.SCISSORS);
+        
+        GameEngine[] branches = new GameEngine[3];
+        Gesture[] gestures = Gesture.values();
+        for (int i = 0; i < branches.length; i++) {
+            branches[i] = engine.fork();
+            assertTrue(branches[i].playRound(gestures[i], Gesture.ROCK));
+        }
+        
+        assertEquals(parentState, engine.getPackedSnapshot());
+        assertEquals(parentHistory, ((ComputerPlayer) engine.getPlayer2()).getOpponentHistory().size());
+        assertEquals(parentScissors, ((ComputerPlayer) engine.getPlayer2()).getOpponentCount(Gesture.SCISSORS));
+        assertEquals(parentScissors + 1, ((ComputerPlayer) branches[2].getPlayer2()).getOpponentCount(Gesture.SCISSORS));
+        for (int i = 0; i < branches.length; i++) {
+            ComputerPlayer computer = (ComputerPlayer) branches[i].getPlayer2();
+            assertEquals(parentHistory + 1, computer.getOpponentHistory().size());
+            assertEquals(gestures[i], computer.getOpponentHistory().get(0));
+            assertEquals(21, branches[i].getGameState().getCurrentRound());
+        }
+        // ROCK draws ROCK, PAPER beats it, SCISSORS loses to it
+        GameState parent = engine.getGameState();
+        assertEquals(parent.getDraws() + 1, branches[0].getGameState().getDraws());
+        assertEquals(parent.getPlayer1Wins() + 1, branches[1].getGameState().getPlayer1Wins());
+        assertEquals(parent.getPlayer2Wins() + 1, branches[2].getGameState().getPlayer2Wins());
+    }
+    
+    @Test
+    public void testSeededForksPlayIdentically() {
+        GameEngine engine = playOpening(99, 10);
+        ComputerPlayer computer = (ComputerPlayer) engine.getPlayer2();
+        
+        GameEngine first = engine.fork();
+        GameEngine second = engine.fork();
+        ComputerPlayer firstComputer = computer.fork(new Random(42));
+        ComputerPlayer secondComputer = computer.fork(new Random(42));
+        Gesture[] firstChoices = new Gesture[30];
+        Gesture[] secondChoices = new Gesture[30];
+        for (int i = 0; i < firstChoices.length; i++) {
+            firstChoices[i] = firstComputer.makeChoice();
+            secondChoices[i] = secondComputer.makeChoice();
+            firstComputer.observeOpponentGesture(Gesture.PAPER);
+            secondComputer.observeOpponentGesture(Gesture.PAPER);
+        }
+        assertArrayEquals(firstChoices, secondChoices);
+        
+        // Forks of the deterministic cycler continue its sequence from the same position
+        assertEquals(first.getPlayer1().makeChoice(), second.getPlayer1().makeChoice());
+        assertEquals(Gesture.PAPER, engine.getPlayer1().makeChoice());
+    }
+    
+    @Test
+    public void testHistoryStatisticsMatchFullScan() {
+        ComputerPlayer computer = new ComputerPlayer("Computer", 2);
+        Random random = new Random(3);
+        int rounds = 10_000;
+        Gesture[] history = new Gesture[rounds];
+        int[] counts = new int[3];
+        for (int i = 0; i < rounds; i++) {
+            history[i] = Gesture.random(random);
+            computer.addOpponentGestureToHistory(history[i]);
+            counts[history[i].ordinal()]++;
+        }
+        // Full scan with weights 1.2^i, shifted so that the newest weighs 1 and nothing overflows
+        double[] weights = new double[3];
+        double total = 0;
+        for (int i = 0; i < rounds; i++) {
+            double weight = Math.pow(1.2, i - (rounds - 1));
+            weights[history[i].ordinal()] += weight;
+            total += weight;
+        }
+        for (Gesture gesture : Gesture.values()) {
+            assertEquals(counts[gesture.ordinal()], computer.getOpponentCount(gesture));
+            assertEquals(weights[gesture.ordinal()] / total, computer.getOpponentWeight(gesture), 1e-9);
+        }
+        
+        computer.resetForNewGame();
+        assertTrue(computer.getOpponentHistory().isEmpty());
+        assertEquals(0, Arrays.stream(Gesture.values()).mapToInt(computer::getOpponentCount).sum());
+        assertEquals(0, computer.getOpponentWeight(Gesture.ROCK));
+    }
+    
+    @Test
+    public void testRecencyHalfLife() {
+        ComputerPlayer computer = new ComputerPlayer("Computer", 2);
+        computer.setRecencyHalfLife(1);
+        computer.addOpponentGestureToHistory(Gesture.ROCK);
+        computer.addOpponentGestureToHistory(Gesture.PAPER);
+        computer.addOpponentGestureToHistory(Gesture.PAPER);
+        assertEquals(1.0 / 7, computer.getOpponentWeight(Gesture.ROCK), 1e-12);
+        assertEquals(6.0 / 7, computer.getOpponentWeight(Gesture.PAPER), 1e-12);
+        
+        // A million rounds with a short half-life stay finite and forget old gestures
+        for (int i = 0; i < 1_000_000; i++) {
+            computer.addOpponentGestureToHistory(Gesture.SCISSORS);
+        }
+        assertEquals(1.0, computer.getOpponentWeight(Gesture.SCISSORS), 1e-12);
+        assertEquals(0.0, computer.getOpponentWeight(Gesture.ROCK), 1e-12);
+        assertNotNull(computer.makeChoice());
+        assertThrows(IllegalArgumentException.class, () -> computer.setRecencyHalfLife(0));
+    }
+    
+    @Test
+    public void testFinishedGameCannotPlayScriptedRound() {
+        GameEngine engine = playOpening(3, 0);
+        while (engine.playRound(Gesture.PAPER, Gesture.ROCK)) {
+            // Player 1 wins every round
+        }
+        assertEquals(1, engine.getGameState().getGameWinner());
+        GameEngine fork = engine.fork();
+        assertFalse(fork.playRound(Gesture.ROCK, Gesture.PAPER));
+        assertEquals(engine.getPackedSnapshot(), fork.getPackedSnapshot());
+    }
+    
+    @Test
+    public void testFreeForAllCannotBeForked() {
+        GameEngine engine = new GameEngine(new VirtualClock(), 3000);
+        engine.initializeFreeForAll(3, Arrays.asList(new ComputerPlayer("A", 0), new ComputerPlayer("B", 0),
+                                                     new ComputerPlayer("C", 0)),
+                                    new FreeForAllResolver(FreeForAllResolver.Scoring.BEATS_ALL_PRESENT));
+        assertThrows(IllegalStateException.class, engine::fork);
+        assertThrows(IllegalStateException.class, () -> new GameEngine().fork());
+    }
+}
@@ -0,0 +1,88 @@
+package game;
+
+import player.CyclingPlayer;
+import org.junit.jupiter.api.Test;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Unit tests for the GameEngine round path and snapshot publication
+ */
+public class GameEngineTest {
+    
+    private GameEngine engine(ScoringRules rules, int maxRounds) {
+        GameEngine engine = new GameEngine(new VirtualClock(), 3000);
+        engine.setScoringRules(rules);
+        engine.initializeGame(GameMode.PLAYER_VS_PLAYER, maxRounds,
+                              new CyclingPlayer("A", Gesture.ROCK), new CyclingPlayer("B", Gesture.ROCK));
+        return engine;
+    }
+    
+    /**
+     * Bytes allocated by the current thread so far
+     */
+    private static long allocatedBytes() {
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        assumeTrue(threads instanceof com.sun.management.ThreadMXBean);
+        com.sun.management.ThreadMXBean allocation = (com.sun.management.ThreadMXBean) threads;
+        assumeTrue(allocation.isThreadAllocatedMemoryEnabled());
+        return allocation.getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+    
+    private static void playRounds(GameEngine engine, int rounds) {
+        Gesture[] gestures = Gesture.values();
+        for (int i = 0; i < rounds; i++) {
+            // Alternate wins, losses and draws so that the game never finishes
+            assertTrue(engine.playRound(gestures[i % 3], gestures[(i / 3) % 3]));
+        }
+    }
+    
+    @Test
+    public void testRoundPathDoesNotAllocate() {
+        GameEngine engine = engine(ScoringRules.STANDARD, PackedGameState.MAX_ROUNDS);
+        playRounds(engine, 900);
+        
+        int rounds = 2_700;
+        long allocated = allocatedBytes();
+        playRounds(engine, rounds);
+        allocated = allocatedBytes() - allocated;
+        // Leave room for the allocation counter itself; a snapshot object per transition is 64 bytes a round
+        assertTrue(allocated < rounds, allocated + " bytes for " + rounds + " rounds");
+        assertEquals(900 + rounds, engine.getSnapshot().getCurrentRound());
+    }
+    
+    @Test
+    public void testSnapshotFollowsRulesOfCurrentGame() {
+        ScoringRules handicap = new ScoringRules(2, 0, null, 0, 3, 0, 1, 0);
+        GameEngine engine = engine(handicap, 5);
+        engine.playRound(Gesture.PAPER, Gesture.ROCK);
+        GameStateSnapshot snapshot = engine.getSnapshot();
+        assertSame(handicap, snapshot.getScoringRules());
+        assertEquals(2, snapshot.getPlayer1Score());
+        assertEquals(3, snapshot.getPlayer2Score());
+        assertEquals(engine.getPackedSnapshot(), snapshot.getPackedState());
+        
+        ScoringRules weighted = new ScoringRules(1, 1, new int[] {3, 1, 2}, 0, 0, 0, 1, 0);
+        engine.setScoringRules(weighted);
+        engine.initializeGame(GameMode.PLAYER_VS_PLAYER, 9, new CyclingPlayer("A", Gesture.ROCK),
+                              new CyclingPlayer("B", Gesture.ROCK));
+        engine.playRound(Gesture.ROCK, Gesture.SCISSORS);
+        engine.playRound(Gesture.PAPER, Gesture.PAPER);
+        snapshot = engine.getSnapshot();
+        assertSame(weighted, snapshot.getScoringRules());
+        assertEquals(4, snapshot.getPlayer1Score());
+        assertEquals(1, snapshot.getPlayer2Score());
+        
+        engine.setScoringRules(ScoringRules.STANDARD);
+        engine.initializeGame(GameMode.PLAYER_VS_PLAYER, 5, new CyclingPlayer("A", Gesture.ROCK),
+                              new CyclingPlayer("B", Gesture.ROCK));
+        engine.playRound(Gesture.SCISSORS, Gesture.ROCK);
+        snapshot = engine.getSnapshot();
+        assertSame(ScoringRules.STANDARD, snapshot.getScoringRules());
+        assertEquals(0, snapshot.getPlayer1Score());
+        assertEquals(1, snapshot.getPlayer2Score());
+        assertEquals(1, snapshot.getCurrentRound());
+    }
+}
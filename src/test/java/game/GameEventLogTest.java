@@ -0,0 +1,133 @@
+package game;
+
+import player.ComputerPlayer;
+import player.CyclingPlayer;
+import org.junit.jupiter.api.Test;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Random;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the GameEventLog binary round log
+ */
+public class GameEventLogTest {
+    
+    private GameEngine playLoggedGame(GameEventLog log, int maxRounds, int roundsToPlay) {
+        GameEngine engine = new GameEngine(new VirtualClock(), 3000);
+        engine.addListener(log);
+        engine.initializeGame(GameMode.PLAYER_VS_COMPUTER, maxRounds,
+                              new ComputerPlayer("Computer 1", 2), new ComputerPlayer("Computer 2", 1));
+        for (int i = 0; i < roundsToPlay && engine.playRound(); i++) {
+            // Each round is appended to the log by the listener
+        }
+        return engine;
+    }
+    
+    @Test
+    public void testRebuildMatchesEngine() {
+        GameEventLog log = new GameEventLog(10);
+        GameEngine engine = playLoggedGame(log, 4095, 1000);
+        
+        GameState rebuilt = log.rebuild();
+        GameState live = engine.getGameState();
+        assertEquals(live.getCurrentRound(), rebuilt.getCurrentRound());
+        assertEquals(live.getPlayer1Wins(), rebuilt.getPlayer1Wins());
+        assertEquals(live.getPlayer2Wins(), rebuilt.getPlayer2Wins());
+        assertEquals(live.getDraws(), rebuilt.getDraws());
+        assertEquals(engine.getPackedSnapshot(), log.getCurrentState());
+        assertEquals(100, log.getSnapshotCount());
+    }
+    
+    @Test
+    public void testRecoverFromTornWrite() throws IOException {
+        ByteArrayOutputStream file = new ByteArrayOutputStream();
+        GameEventLog log = new GameEventLog(7, file);
+        playLoggedGame(log, 99, 50);
+        
+        // Simulate a crash in the middle of writing the last record
+        byte[] bytes = file.toByteArray();
+        byte[] torn = Arrays.copyOf(bytes, bytes.length - GameEventLog.RECORD_SIZE / 2);
+        GameEventLog recovered = GameEventLog.read(new ByteArrayInputStream(torn), 7);
+        
+        assertEquals(log.size() - 1, recovered.size());
+        assertEquals(log.stateAt(log.size() - 1), recovered.getCurrentState());
+        
+        // Resume the game and keep logging into the recovered log
+        GameEngine engine = new GameEngine(new VirtualClock(), 3000);
+        engine.addListener(recovered);
+        engine.resumeGame(recovered.getCurrentState(),
+                          new ComputerPlayer("Computer 1", 0), new ComputerPlayer("Computer 2", 0));
+        engine.playGame();
+        assertEquals(engine.getPackedSnapshot(), recovered.stateAt(recovered.size()));
+        assertTrue(engine.getGameState().isGameFinished());
+    }
+    
+    @Test
+    public void testRecoveryKeepsWeightedScores() throws IOException {
+        // Rock wins are worth 3, draws 1 each, and player 2 starts 2 points ahead
+        ScoringRules rules = new ScoringRules(1, 1, new int[] {3, 1, 1}, 0, 2, 40, 1, 0);
+        Gesture[] gestures = {Gesture.ROCK, Gesture.PAPER, Gesture.SCISSORS, null};
+        Random random = new Random(9);
+        int rounds = 30;
+        Gesture[][] script = new Gesture[rounds][2];
+        for (Gesture[] round : script) {
+            round[0] = gestures[random.nextInt(4)];
+            round[1] = gestures[random.nextInt(4)];
+        }
+        
+        GameEngine uninterrupted = new GameEngine(new VirtualClock(), 3000);
+        uninterrupted.setScoringRules(rules);
+        uninterrupted.initializeGame(GameMode.PLAYER_VS_PLAYER, rounds,
+                                     new CyclingPlayer("A", Gesture.ROCK), new CyclingPlayer("B", Gesture.ROCK));
+        for (Gesture[] round : script) {
+            uninterrupted.playRound(round[0], round[1]);
+        }
+        
+        ByteArrayOutputStream file = new ByteArrayOutputStream();
+        GameEventLog log = new GameEventLog(4, file);
+        GameEngine crashed = new GameEngine(new VirtualClock(), 3000);
+        crashed.setScoringRules(rules);
+        crashed.addListener(log);
+        crashed.initializeGame(GameMode.PLAYER_VS_PLAYER, rounds,
+                               new CyclingPlayer("A", Gesture.ROCK), new CyclingPlayer("B", Gesture.ROCK));
+        for (int i = 0; i < 17; i++) {
+            crashed.playRound(script[i][0], script[i][1]);
+        }
+        GameState rebuilt = log.rebuild();
+        assertEquals(crashed.getGameState().getPlayer1Score(), rebuilt.getPlayer1Score());
+        assertEquals(crashed.getGameState().getPlayer2Score(), rebuilt.getPlayer2Score());
+        assertEquals(crashed.getSnapshot(), log.getCurrentSnapshot());
+        
+        GameEventLog recovered = GameEventLog.read(new ByteArrayInputStream(file.toByteArray()), 4, rules);
+        assertEquals(crashed.getSnapshot(), recovered.getCurrentSnapshot());
+        GameEngine resumed = new GameEngine(new VirtualClock(), 3000);
+        resumed.addListener(recovered);
+        resumed.resumeGame(recovered.getCurrentSnapshot(),
+                           new CyclingPlayer("A", Gesture.ROCK), new CyclingPlayer("B", Gesture.ROCK));
+        for (int i = 17; i < rounds; i++) {
+            resumed.playRound(script[i][0], script[i][1]);
+        }
+        
+        GameState expected = uninterrupted.getGameState();
+        assertEquals(expected.getPlayer1Score(), resumed.getGameState().getPlayer1Score());
+        assertEquals(expected.getPlayer2Score(), resumed.getGameState().getPlayer2Score());
+        assertEquals(expected.getGameWinner(), resumed.getGameState().getGameWinner());
+        assertEquals(uninterrupted.getSnapshot(), recovered.getCurrentSnapshot());
+    }
+    
+    @Test
+    public void testRecordLayout() {
+        GameEventLog log = new GameEventLog(100);
+        playLoggedGame(log, 3, 1);
+        
+        assertEquals(GameEventLog.INITIALIZE, log.getRecordType(0));
+        assertEquals(GameEventLog.ROUND_STARTED, log.getRecordType(1));
+        assertEquals(GameEventLog.GESTURE_SUBMITTED, log.getRecordType(2));
+        assertEquals(GameEventLog.GESTURE_SUBMITTED, log.getRecordType(3));
+        assertEquals(GameEventLog.ROUND_RESULT, log.getRecordType(4));
+        assertEquals(5 * GameEventLog.RECORD_SIZE, log.toByteArray().length);
+    }
+}
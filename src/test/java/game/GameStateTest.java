@@ -116,6 +116,24 @@ public class GameStateTest {
         assertTrue(gameState.getCountdownTimeRemaining() < 3000);
     }
     
+    @Test
+    public void testVirtualClockCountdown() {
+        VirtualClock clock = new VirtualClock(1000);
+        GameState state = new GameState(GameMode.PLAYER_VS_COMPUTER, 5, clock, 500);
+        
+        assertEquals(500, state.getCountdownTimeRemaining());
+        
+        state.startCountdown();
+        assertEquals(1500, state.getCountdownDeadline());
+        
+        clock.advance(499);
+        assertEquals(1, state.getCountdownTimeRemaining());
+        assertFalse(state.isCountdownExpired());
+        
+        clock.advance(1);
+        assertTrue(state.isCountdownExpired());
+    }
+    
     @Test
     public void testReset() {
         // Set some state
@@ -68,4 +68,65 @@ public class GestureTest {
         assertEquals("P", Gesture.PAPER.getShortCode());
         assertEquals("S", Gesture.SCISSORS.getShortCode());
     }
+    
+    @Test
+    public void testOutcome() {
+        assertEquals(1, Gesture.outcome(Gesture.ROCK, Gesture.SCISSORS));
+        assertEquals(2, Gesture.outcome(Gesture.ROCK, Gesture.PAPER));
+        assertEquals(0, Gesture.outcome(Gesture.PAPER, Gesture.PAPER));
+        
+        for (Gesture gesture : Gesture.values()) {
+            assertTrue(gesture.counter().beats(gesture));
+        }
+    }
+    
+    @Test
+    public void testLizardSpockRules() {
+        GestureRules rules = GestureRules.LIZARD_SPOCK;
+        int rock = rules.getGestureNames().indexOf("Rock");
+        int paper = rules.getGestureNames().indexOf("Paper");
+        int scissors = rules.getGestureNames().indexOf("Scissors");
+        int lizard = rules.getGestureNames().indexOf("Lizard");
+        int spock = rules.getGestureNames().indexOf("Spock");
+        
+        assertTrue(rules.beats(rock, lizard));
+        assertTrue(rules.beats(lizard, spock));
+        assertTrue(rules.beats(spock, scissors));
+        assertTrue(rules.beats(scissors, lizard));
+        assertTrue(rules.beats(lizard, paper));
+        assertTrue(rules.beats(paper, spock));
+        assertTrue(rules.beats(spock, rock));
+        assertEquals(GestureRules.SECOND_WINS, rules.outcome(rock, paper));
+    }
+    
+    @Test
+    public void testRps15Rules() {
+        GestureRules rules = GestureRules.RPS_15;
+        int rock = rules.getGestureNames().indexOf("Rock");
+        
+        assertTrue(rules.beats(rock, rules.getGestureNames().indexOf("Fire")));
+        assertTrue(rules.beats(rock, rules.getGestureNames().indexOf("Sponge")));
+        assertTrue(rules.beats(rules.getGestureNames().indexOf("Paper"), rock));
+        assertTrue(rules.beats(rules.getGestureNames().indexOf("Gun"), rock));
+    }
+    
+    @Test
+    public void testRulesAreBalanced() {
+        for (GestureRules rules : new GestureRules[] {
+                GestureRules.CLASSIC, GestureRules.LIZARD_SPOCK, GestureRules.RPS_15}) {
+            int n = rules.size();
+            for (int i = 0; i < n; i++) {
+                int wins = 0;
+                for (int j = 0; j < n; j++) {
+                    if (i != j) {
+                        // Exactly one of each pair wins
+                        assertNotEquals(rules.beats(i, j), rules.beats(j, i));
+                    }
+                    wins += rules.beats(i, j) ? 1 : 0;
+                }
+                assertEquals((n - 1) / 2, wins);
+                assertTrue(rules.beats(rules.counter(i), i));
+            }
+        }
+    }
 }
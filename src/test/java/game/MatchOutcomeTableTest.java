@@ -0,0 +1,88 @@
+package game;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the MatchOutcomeTable probability engine
+ */
+public class MatchOutcomeTableTest {
+    
+    /**
+     * Play every round sequence through GameState and sum the probability of each result
+     */
+    private double[] enumerate(GameState state, double win, double draw, double loss, double weight) {
+        if (state.isGameFinished()) {
+            double[] result = new double[3];
+            result[state.getGameWinner()] = weight;
+            return result;
+        }
+        double[] total = new double[3];
+        double[] probabilities = {draw, win, loss};
+        for (int outcome = 0; outcome < 3; outcome++) {
+            GameState next = PackedGameState.toGameState(PackedGameState.of(state));
+            next.nextRound();
+            if (outcome == 1) {
+                next.incrementPlayer1Wins();
+            } else if (outcome == 2) {
+                next.incrementPlayer2Wins();
+            } else {
+                next.incrementDraws();
+            }
+            double[] branch = enumerate(next, win, draw, loss, weight * probabilities[outcome]);
+            for (int i = 0; i < 3; i++) {
+                total[i] += branch[i];
+            }
+        }
+        return total;
+    }
+    
+    @Test
+    public void testMatchesEnumeration() {
+        for (int maxRounds = 1; maxRounds <= 7; maxRounds++) {
+            MatchOutcomeTable table = new MatchOutcomeTable(maxRounds, 0.5, 0.2, 0.3);
+            GameState start = new GameState(GameMode.PLAYER_VS_COMPUTER, maxRounds);
+            double[] expected = enumerate(start, 0.5, 0.2, 0.3, 1);
+            
+            assertEquals(expected[0], table.getDrawProbability(start), 1e-12);
+            assertEquals(expected[1], table.getPlayer1WinProbability(start), 1e-12);
+            assertEquals(expected[2], table.getPlayer2WinProbability(start), 1e-12);
+        }
+    }
+    
+    @Test
+    public void testMidGameAndFinishedStates() {
+        MatchOutcomeTable table = MatchOutcomeTable.uniform(99);
+        
+        // Symmetric players from a tied position
+        assertEquals(table.getPlayer1WinProbability(40, 15, 15),
+                     table.getPlayer2WinProbability(40, 15, 15), 1e-12);
+        // A decided match
+        assertEquals(1.0, table.getPlayer1WinProbability(60, 50, 5));
+        assertEquals(0.0, table.getDrawProbability(60, 50, 5));
+        // Round cap reached level
+        assertEquals(1.0, table.getDrawProbability(99, 40, 40));
+        // A round in progress does not count as completed
+        long state = PackedGameState.setRoundInProgress(PackedGameState.nextRound(PackedGameState.create(99)), true);
+        assertEquals(table.getPlayer1WinProbability(0, 0, 0), table.getPlayer1WinProbability(state));
+        
+        assertThrows(IllegalArgumentException.class, () -> table.getPlayer1WinProbability(3, 2, 2));
+        assertThrows(IllegalArgumentException.class, () -> new MatchOutcomeTable(100, 0.4, 0.2, 0.4));
+    }
+    
+    @Test
+    public void testRejectsOtherScoringRules() {
+        MatchOutcomeTable table = MatchOutcomeTable.uniform(3);
+        GameState standard = new GameState(GameMode.PLAYER_VS_PLAYER, 3,
+                                           new ScoringRules(2, 0, null, 0, 0, 0, 1, 0));
+        assertEquals(table.getPlayer1WinProbability(0, 0, 0), table.getPlayer1WinProbability(standard));
+        
+        GameState suddenDeath = new GameState(GameMode.PLAYER_VS_PLAYER, 3, new ScoringRules(1, 0, null, 0, 0, 0, 1, 2));
+        suddenDeath.restoreCounters(4, 1, 1, 2, 1, 1);
+        assertThrows(IllegalArgumentException.class, () -> table.getPlayer1WinProbability(suddenDeath));
+        GameState handicap = new GameState(GameMode.PLAYER_VS_PLAYER, 3, new ScoringRules(1, 0, null, 0, 1, 0, 1, 0));
+        assertThrows(IllegalArgumentException.class, () -> table.getDrawProbability(handicap));
+        GameState weighted = new GameState(GameMode.PLAYER_VS_PLAYER, 3, new ScoringRules(1, 0, new int[] {2, 1, 1}, 0, 0, 0, 1, 0));
+        assertThrows(IllegalArgumentException.class, () -> table.getPlayer2WinProbability(weighted));
+    }
+}
@@ -0,0 +1,94 @@
+package game;
+
+import player.MixedStrategyPlayer;
+import org.junit.jupiter.api.Test;
+import java.util.Random;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the NashSolver and equilibrium sampling
+ */
+public class NashSolverTest {
+    
+    @Test
+    public void testBalancedRulesAreUniform() {
+        for (GestureRules rules : new GestureRules[] {GestureRules.CLASSIC, GestureRules.RPS_15}) {
+            NashSolver.Equilibrium equilibrium = NashSolver.solve(rules);
+            double[] strategy = equilibrium.getRowStrategy();
+            for (double p : strategy) {
+                assertEquals(1.0 / rules.size(), p, 1e-9);
+            }
+            assertEquals(0, equilibrium.getValue(), 1e-9);
+        }
+    }
+    
+    @Test
+    public void testWeightedPayoffs() {
+        // Rock crushing Scissors pays double
+        double[][] payoff = {
+            { 0, -1,  2},
+            { 1,  0, -1},
+            {-2,  1,  0}
+        };
+        NashSolver.Equilibrium equilibrium = NashSolver.solve(payoff);
+        
+        assertArrayEquals(new double[] {0.25, 0.5, 0.25}, equilibrium.getRowStrategy(), 1e-9);
+        assertArrayEquals(new double[] {0.25, 0.5, 0.25}, equilibrium.getColumnStrategy(), 1e-9);
+        assertEquals(0, equilibrium.getValue(), 1e-9);
+    }
+    
+    @Test
+    public void testLargeRandomGameIsEquilibrium() {
+        Random random = new Random(3);
+        int n = 300;
+        double[][] payoff = new double[n][n];
+        for (int i = 0; i < n; i++) {
+            for (int j = 0; j < n; j++) {
+                payoff[i][j] = random.nextGaussian();
+            }
+        }
+        NashSolver.Equilibrium equilibrium = NashSolver.solve(payoff);
+        double[] x = equilibrium.getRowStrategy();
+        double[] y = equilibrium.getColumnStrategy();
+        
+        // No pure deviation helps either player
+        for (int k = 0; k < n; k++) {
+            double rowDeviation = 0;
+            double columnDeviation = 0;
+            for (int l = 0; l < n; l++) {
+                rowDeviation += payoff[k][l] * y[l];
+                columnDeviation += x[l] * payoff[l][k];
+            }
+            assertTrue(rowDeviation <= equilibrium.getValue() + 1e-7);
+            assertTrue(columnDeviation >= equilibrium.getValue() - 1e-7);
+        }
+    }
+    
+    @Test
+    public void testMixedStrategyPlayerFrequencies() {
+        MixedStrategyPlayer player = new MixedStrategyPlayer("Nash", new double[] {0.25, 0.5, 0.25}, new Random(5));
+        int[] counts = new int[3];
+        for (int i = 0; i < 100_000; i++) {
+            counts[player.makeChoice().ordinal()]++;
+        }
+        assertEquals(0.25, counts[0] / 100_000.0, 0.01);
+        assertEquals(0.5, counts[1] / 100_000.0, 0.01);
+        assertEquals(0.25, counts[2] / 100_000.0, 0.01);
+    }
+    
+    @Test
+    public void testMixedStrategyPlayerOverLargerRules() {
+        double[] strategy = NashSolver.solve(GestureRules.LIZARD_SPOCK).getRowStrategy();
+        MixedStrategyPlayer player = new MixedStrategyPlayer("Nash", GestureRules.LIZARD_SPOCK, strategy, new Random(5));
+        int[] counts = new int[GestureRules.LIZARD_SPOCK.size()];
+        for (int i = 0; i < 100_000; i++) {
+            counts[player.chooseOrdinal()]++;
+        }
+        for (int count : counts) {
+            assertEquals(0.2, count / 100_000.0, 0.01);
+        }
+        assertThrows(IllegalStateException.class, player::makeChoice);
+        assertThrows(IllegalArgumentException.class,
+                     () -> new MixedStrategyPlayer("Nash", GestureRules.RPS_15, strategy, null));
+    }
+}
@@ -0,0 +1,93 @@
+package game;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for PackedGameState and PackedMatchStore
+ */
+public class PackedGameStateTest {
+    
+    @Test
+    public void testInitialState() {
+        long state = PackedGameState.create(5);
+        assertEquals(5, PackedGameState.getMaxRounds(state));
+        assertEquals(0, PackedGameState.getCurrentRound(state));
+        assertEquals(0, PackedGameState.getPlayer1Wins(state));
+        assertEquals(0, PackedGameState.getPlayer2Wins(state));
+        assertEquals(0, PackedGameState.getDraws(state));
+        assertFalse(PackedGameState.isGameInProgress(state));
+        assertFalse(PackedGameState.isRoundInProgress(state));
+        assertFalse(PackedGameState.isGameFinished(state));
+    }
+    
+    @Test
+    public void testMirrorsGameState() {
+        GameState gameState = new GameState(GameMode.PLAYER_VS_COMPUTER, 7);
+        long state = PackedGameState.create(GameMode.PLAYER_VS_COMPUTER, 7);
+        int[] winners = {1, 0, 2, 2, 1, 0, 2};
+        
+        for (int winner : winners) {
+            gameState.nextRound();
+            if (winner == 1) {
+                gameState.incrementPlayer1Wins();
+            } else if (winner == 2) {
+                gameState.incrementPlayer2Wins();
+            } else {
+                gameState.incrementDraws();
+            }
+            state = PackedGameState.applyRound(state, winner);
+            
+            assertEquals(gameState.getCurrentRound(), PackedGameState.getCurrentRound(state));
+            assertEquals(gameState.getPlayer1Wins(), PackedGameState.getPlayer1Wins(state));
+            assertEquals(gameState.getPlayer2Wins(), PackedGameState.getPlayer2Wins(state));
+            assertEquals(gameState.getDraws(), PackedGameState.getDraws(state));
+            assertEquals(gameState.isGameFinished(), PackedGameState.isGameFinished(state));
+            assertEquals(gameState.getGameWinner(), PackedGameState.getGameWinner(state));
+        }
+        
+        assertEquals(state, PackedGameState.of(gameState));
+        assertEquals(state, PackedGameState.of(PackedGameState.toGameState(state)));
+        
+        long pvp = PackedGameState.setMode(state, GameMode.PLAYER_VS_PLAYER);
+        assertEquals(GameMode.PLAYER_VS_PLAYER, PackedGameState.getMode(pvp));
+        assertEquals(PackedGameState.getDraws(state), PackedGameState.getDraws(pvp));
+        
+        long ffa = PackedGameState.reset(PackedGameState.setMode(state, GameMode.FREE_FOR_ALL));
+        assertEquals(GameMode.FREE_FOR_ALL, PackedGameState.getMode(ffa));
+        assertEquals(PackedGameState.getMaxRounds(state), PackedGameState.getMaxRounds(ffa));
+    }
+    
+    @Test
+    public void testFlagsAndReset() {
+        long state = PackedGameState.create(PackedGameState.MAX_ROUNDS);
+        state = PackedGameState.setGameInProgress(state, true);
+        state = PackedGameState.setRoundInProgress(state, true);
+        state = PackedGameState.incrementDraws(PackedGameState.nextRound(state));
+        assertTrue(PackedGameState.isGameInProgress(state));
+        assertTrue(PackedGameState.isRoundInProgress(state));
+        
+        state = PackedGameState.setRoundInProgress(state, false);
+        assertTrue(PackedGameState.isGameInProgress(state));
+        assertFalse(PackedGameState.isRoundInProgress(state));
+        
+        assertEquals(PackedGameState.create(PackedGameState.MAX_ROUNDS), PackedGameState.reset(state));
+    }
+    
+    @Test
+    public void testMatchStore() {
+        PackedMatchStore store = new PackedMatchStore(3, 3);
+        
+        assertEquals(3, store.applyRounds(new byte[] {1, 2, 0}));
+        assertEquals(1, store.applyRounds(new byte[] {1, 2, 0}));
+        assertEquals(2, store.countFinished());
+        
+        assertEquals(0, store.applyRounds(new byte[] {2, 2, 0}));
+        long[] winners = store.countWinners();
+        assertEquals(1, winners[0]);
+        assertEquals(1, winners[1]);
+        assertEquals(1, winners[2]);
+        // Finished matches ignore further rounds
+        assertEquals(2, PackedGameState.getPlayer1Wins(store.get(0)));
+    }
+}
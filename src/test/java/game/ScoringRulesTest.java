@@ -0,0 +1,214 @@
+package game;
+
+import util.GameConfig;
+import player.ComputerPlayer;
+import player.CyclingPlayer;
+import org.junit.jupiter.api.Test;
+import java.util.Arrays;
+import java.util.Properties;
+import java.util.Random;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for compiled ScoringRules
+ */
+public class ScoringRulesTest {
+    
+    private GameEngine engine(ScoringRules rules, int maxRounds) {
+        GameEngine engine = new GameEngine(new VirtualClock(), 3000);
+        engine.setScoringRules(rules);
+        engine.initializeGame(GameMode.PLAYER_VS_PLAYER, maxRounds,
+                              new CyclingPlayer("A", Gesture.ROCK), new CyclingPlayer("B", Gesture.ROCK));
+        return engine;
+    }
+    
+    @Test
+    public void testStandardRulesMatchMajority() {
+        for (int maxRounds = 1; maxRounds <= 9; maxRounds++) {
+            int roundsToWin = maxRounds / 2 + 1;
+            for (int wins1 = 0; wins1 <= maxRounds; wins1++) {
+                for (int wins2 = 0; wins1 + wins2 <= maxRounds; wins2++) {
+                    for (int round = wins1 + wins2; round <= maxRounds; round++) {
+                        GameState state = new GameState(GameMode.PLAYER_VS_COMPUTER, maxRounds);
+                        state.restoreCounters(round, wins1, wins2, round - wins1 - wins2, wins1, wins2);
+                        boolean expected = wins1 >= roundsToWin || wins2 >= roundsToWin || round >= maxRounds;
+                        assertEquals(expected, state.isGameFinished());
+                        assertEquals(Integer.compare(wins1, wins2), Integer.signum(state.getPlayer1Score() - state.getPlayer2Score()));
+                    }
+                }
+            }
+        }
+    }
+    
+    @Test
+    public void testDefaultConfigIsStandard() {
+        ScoringRules rules = ScoringRules.getDefault();
+        assertEquals(1, rules.getWinPoints());
+        assertEquals(0, rules.getDrawPoints());
+        assertEquals(1, rules.getWinMargin());
+        assertEquals(0, rules.getSuddenDeathRounds());
+        assertEquals(3, rules.getTargetScore(5));
+    }
+    
+    @Test
+    public void testFromConfig() {
+        Properties properties = new Properties();
+        properties.setProperty("game.scoring.points.win", "2");
+        properties.setProperty("game.scoring.points.rock", "5");
+        properties.setProperty("game.scoring.points.draw", "1");
+        properties.setProperty("game.scoring.handicap.player2", "3");
+        properties.setProperty("game.scoring.win.margin", "2");
+        properties.setProperty("game.scoring.sudden.death.rounds", "4");
+        ScoringRules rules = ScoringRules.fromConfig(new GameConfig(properties));
+        
+        assertEquals(5, rules.getGesturePoints(Gesture.ROCK));
+        assertEquals(2, rules.getGesturePoints(Gesture.PAPER));
+        assertEquals(1, rules.getDrawPoints());
+        assertEquals(3, rules.getPlayer2Handicap());
+        assertEquals(2, rules.getWinMargin());
+        assertEquals(4, rules.getSuddenDeathRounds());
+        assertEquals(6, rules.getTargetScore(5));
+        
+        properties.setProperty("game.scoring.win.margin", "0");
+        assertSame(ScoringRules.STANDARD, ScoringRules.fromConfig(new GameConfig(properties)));
+    }
+    
+    @Test
+    public void testWeightedGesturesAndDrawPoints() {
+        int[] gesturePoints = {3, 1, 2};
+        GameEngine engine = engine(new ScoringRules(1, 1, gesturePoints, 0, 0, 100, 1, 0), 10);
+        engine.playRound(Gesture.ROCK, Gesture.SCISSORS);
+        engine.playRound(Gesture.ROCK, Gesture.PAPER);
+        engine.playRound(Gesture.PAPER, Gesture.PAPER);
+        engine.playRound(null, Gesture.SCISSORS);
+        engine.playRound(null, null);
+        
+        GameState state = engine.getGameState();
+        assertEquals(1, state.getPlayer1Wins());
+        assertEquals(2, state.getPlayer2Wins());
+        assertEquals(2, state.getDraws());
+        assertEquals(3 + 1, state.getPlayer1Score());
+        assertEquals(1 + 1 + 2, state.getPlayer2Score());
+        assertEquals(0, state.getGameWinner());
+    }
+    
+    @Test
+    public void testHandicap() {
+        GameEngine engine = engine(new ScoringRules(1, 0, null, 0, 2, 0, 1, 0), 5);
+        assertEquals(2, engine.getGameState().getPlayer2Score());
+        engine.playRound(Gesture.ROCK, Gesture.PAPER);
+        // 3 points is a majority of 5 rounds
+        assertTrue(engine.getGameState().isGameFinished());
+        assertEquals(2, engine.getGameState().getGameWinner());
+        assertEquals(1, engine.getGameState().getCurrentRound());
+    }
+    
+    @Test
+    public void testWinByTwo() {
+        GameEngine engine = engine(new ScoringRules(1, 0, null, 0, 0, 0, 2, 0), 5);
+        engine.playRound(Gesture.PAPER, Gesture.ROCK);
+        engine.playRound(Gesture.ROCK, Gesture.PAPER);
+        engine.playRound(Gesture.PAPER, Gesture.ROCK);
+        engine.playRound(Gesture.ROCK, Gesture.PAPER);
+        engine.playRound(Gesture.PAPER, Gesture.ROCK);
+        // 3-2 reaches the target but not the margin; with no sudden death the match ends anyway
+        assertTrue(engine.getGameState().isGameFinished());
+        assertEquals(1, engine.getGameState().getGameWinner());
+        
+        engine = engine(new ScoringRules(1, 0, null, 0, 0, 0, 2, 0), 5);
+        engine.playRound(Gesture.PAPER, Gesture.ROCK);
+        engine.playRound(Gesture.PAPER, Gesture.ROCK);
+        engine.playRound(Gesture.ROCK, Gesture.ROCK);
+        assertFalse(engine.getGameState().isGameFinished());
+        engine.playRound(Gesture.PAPER, Gesture.ROCK);
+        assertTrue(engine.getGameState().isGameFinished());
+    }
+    
+    @Test
+    public void testSuddenDeath() {
+        GameEngine engine = engine(new ScoringRules(1, 0, null, 0, 0, 0, 1, 3), 3);
+        engine.playRound(Gesture.PAPER, Gesture.ROCK);
+        engine.playRound(Gesture.ROCK, Gesture.PAPER);
+        engine.playRound(Gesture.ROCK, Gesture.ROCK);
+        // Tied after the regular rounds: play on
+        assertFalse(engine.getGameState().isGameFinished());
+        engine.playRound(Gesture.ROCK, Gesture.ROCK);
+        assertFalse(engine.getGameState().isGameFinished());
+        engine.playRound(Gesture.SCISSORS, Gesture.PAPER);
+        assertTrue(engine.getGameState().isGameFinished());
+        assertEquals(1, engine.getGameState().getGameWinner());
+        assertEquals(5, engine.getGameState().getCurrentRound());
+        
+        // Sudden death is bounded
+        engine = engine(new ScoringRules(1, 0, null, 0, 0, 0, 1, 2), 1);
+        assertEquals(0, engine.playGame());
+        assertEquals(3, engine.getGameState().getCurrentRound());
+    }
+    
+    @Test
+    public void testSnapshotAgreesWithGameState() {
+        ScoringRules[] rules = {
+            new ScoringRules(1, 1, new int[] {3, 1, 2}, 0, 0, 12, 1, 0),
+            new ScoringRules(1, 0, null, 0, 2, 0, 2, 3),
+            // A handicap at the target finishes the game before any round is played
+            new ScoringRules(1, 0, null, 3, 0, 3, 1, 0)
+        };
+        Gesture[] gestures = {Gesture.ROCK, Gesture.PAPER, Gesture.SCISSORS, null};
+        Random random = new Random(5);
+        for (ScoringRules rule : rules) {
+            GameEngine engine = engine(rule, 5);
+            do {
+                GameState state = engine.getGameState();
+                GameStateSnapshot snapshot = engine.getSnapshot();
+                assertEquals(state.getPlayer1Score(), snapshot.getPlayer1Score());
+                assertEquals(state.getPlayer2Score(), snapshot.getPlayer2Score());
+                assertEquals(state.isGameFinished(), snapshot.isGameFinished());
+                assertEquals(state.getGameWinner(), snapshot.getGameWinner());
+                assertSame(rule, snapshot.getScoringRules());
+            } while (engine.playRound(gestures[random.nextInt(4)], gestures[random.nextInt(4)]));
+            assertTrue(engine.getSnapshot().isGameFinished());
+        }
+        assertTrue(engine(rules[2], 5).getSnapshot().isGameFinished());
+    }
+    
+    @Test
+    public void testFreeForAllIgnoresTwoPlayerRules() {
+        ScoringRules[] rules = {
+            new ScoringRules(1, 0, null, 0, 0, 0, 1, 5),
+            new ScoringRules(1, 0, null, 4, 0, 3, 1, 0)
+        };
+        for (ScoringRules rule : rules) {
+            GameEngine engine = new GameEngine(new VirtualClock(), 3000);
+            engine.setScoringRules(rule);
+            engine.initializeFreeForAll(4, Arrays.asList(new ComputerPlayer("A", 0), new ComputerPlayer("B", 0),
+                                                         new ComputerPlayer("C", 0)),
+                                        new FreeForAllResolver(FreeForAllResolver.Scoring.POINTS_PER_BEATEN));
+            assertFalse(engine.getGameState().isGameFinished());
+            assertFalse(engine.getSnapshot().isGameFinished());
+            engine.playFreeForAllGame();
+            assertEquals(4, engine.getGameState().getCurrentRound());
+            assertTrue(engine.getSnapshot().isGameFinished());
+        }
+        
+        // The round cap of free-for-all games is not reduced by sudden death
+        GameEngine engine = new GameEngine(new VirtualClock(), 3000);
+        engine.setScoringRules(rules[0]);
+        engine.initializeFreeForAll(PackedGameState.MAX_ROUNDS,
+                                    Arrays.asList(new ComputerPlayer("A", 0), new ComputerPlayer("B", 0)),
+                                    new FreeForAllResolver(FreeForAllResolver.Scoring.POINTS_PER_BEATEN));
+        assertEquals(PackedGameState.MAX_ROUNDS, engine.getGameState().getMaxRounds());
+    }
+    
+    @Test
+    public void testRejectsInvalidRules() {
+        assertThrows(IllegalArgumentException.class, () -> new ScoringRules(0, 0, null, 0, 0, 0, 1, 0));
+        assertThrows(IllegalArgumentException.class, () -> new ScoringRules(1, -1, null, 0, 0, 0, 1, 0));
+        assertThrows(IllegalArgumentException.class, () -> new ScoringRules(1, 0, new int[] {1, 0, 1}, 0, 0, 0, 1, 0));
+        assertThrows(IllegalArgumentException.class, () -> new ScoringRules(1, 0, null, 0, 0, 0, 1, -1));
+        
+        GameEngine engine = new GameEngine(new VirtualClock(), 3000);
+        engine.setScoringRules(new ScoringRules(1, 0, null, 0, 0, 0, 1, 10));
+        assertThrows(IllegalArgumentException.class, () -> engine.initializeGame(GameMode.PLAYER_VS_PLAYER,
+            PackedGameState.MAX_ROUNDS, new CyclingPlayer("A", Gesture.ROCK), new CyclingPlayer("B", Gesture.ROCK)));
+    }
+}
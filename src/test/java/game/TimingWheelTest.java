@@ -0,0 +1,138 @@
+package game;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the TimingWheel countdown scheduler
+ */
+public class TimingWheelTest {
+    
+    @Test
+    public void testFiresAtDeadline() {
+        VirtualClock clock = new VirtualClock();
+        TimingWheel wheel = new TimingWheel(clock, 10, 8);
+        int[] fired = new int[1];
+        TimingWheel.Timeout timeout = new TimingWheel.Timeout(() -> fired[0]++);
+        
+        // Deadline several wheel revolutions away and in the middle of a tick
+        wheel.schedule(timeout, 255);
+        
+        clock.setTime(254);
+        assertEquals(0, wheel.advance());
+        assertTrue(timeout.isScheduled());
+        
+        clock.setTime(255);
+        assertEquals(1, wheel.advance());
+        assertEquals(1, fired[0]);
+        assertFalse(timeout.isScheduled());
+        assertEquals(0, wheel.size());
+    }
+    
+    @Test
+    public void testCancelAndReschedule() {
+        VirtualClock clock = new VirtualClock();
+        TimingWheel wheel = new TimingWheel(clock, 1, 4);
+        int[] fired = new int[1];
+        TimingWheel.Timeout timeout = new TimingWheel.Timeout(() -> fired[0]++);
+        
+        wheel.schedule(timeout, 5);
+        assertTrue(wheel.cancel(timeout));
+        assertFalse(wheel.cancel(timeout));
+        
+        wheel.schedule(timeout, 7);
+        wheel.schedule(timeout, 9);
+        assertEquals(1, wheel.size());
+        
+        clock.setTime(8);
+        assertEquals(0, wheel.advance());
+        clock.setTime(100);
+        assertEquals(1, wheel.advance());
+        assertEquals(1, fired[0]);
+    }
+    
+    @Test
+    public void testTaskMovesItsSuccessor() {
+        VirtualClock clock = new VirtualClock();
+        TimingWheel wheel = new TimingWheel(clock, 10, 8);
+        int[] fired = new int[3];
+        TimingWheel.Timeout last = new TimingWheel.Timeout(() -> fired[2]++);
+        TimingWheel.Timeout moved = new TimingWheel.Timeout(() -> fired[1]++);
+        // Moves the next timeout of its bucket to another bucket of the same wheel
+        TimingWheel.Timeout first = new TimingWheel.Timeout(() -> {
+            fired[0]++;
+            wheel.schedule(moved, 35);
+        });
+        // A bucket lists its newest timeout first
+        wheel.schedule(last, 5);
+        wheel.schedule(moved, 5);
+        wheel.schedule(first, 5);
+        
+        clock.setTime(5);
+        assertEquals(2, wheel.advance());
+        assertArrayEquals(new int[] {1, 0, 1}, fired);
+        assertTrue(moved.isScheduled());
+        
+        clock.setTime(35);
+        assertEquals(1, wheel.advance());
+        assertArrayEquals(new int[] {1, 1, 1}, fired);
+    }
+    
+    @Test
+    public void testMovesBetweenWheels() {
+        VirtualClock clock = new VirtualClock();
+        TimingWheel wheel = new TimingWheel(clock, 10, 8);
+        TimingWheel other = new TimingWheel(clock, 10, 8);
+        int[] fired = new int[1];
+        TimingWheel.Timeout timeout = new TimingWheel.Timeout(() -> fired[0]++);
+        
+        wheel.schedule(timeout, 20);
+        other.schedule(timeout, 20);
+        assertEquals(0, wheel.size());
+        assertEquals(1, other.size());
+        assertFalse(wheel.cancel(timeout));
+        
+        clock.setTime(20);
+        assertEquals(0, wheel.advance());
+        assertEquals(1, other.advance());
+        assertEquals(1, fired[0]);
+    }
+    
+    @Test
+    public void testIdleEngineForfeitsAtDeadline() {
+        VirtualClock clock = new VirtualClock();
+        TimingWheel wheel = new TimingWheel(clock, 100, 64);
+        GameEngine engine = new GameEngine(clock, 3000);
+        engine.setExpiryScheduler(wheel);
+        engine.initializeGame(GameMode.PLAYER_VS_COMPUTER, 3, "Human", "Computer", 0);
+        
+        engine.startRound();
+        clock.advance(2999);
+        wheel.advance();
+        assertTrue(engine.getGameState().isRoundInProgress());
+        
+        clock.advance(1);
+        assertEquals(1, wheel.advance());
+        assertFalse(engine.getGameState().isRoundInProgress());
+        // The human never pressed a key, so the computer takes the round
+        assertEquals(1, engine.getGameState().getPlayer2Wins());
+    }
+    
+    @Test
+    public void testAnsweredRoundCancelsTimeout() {
+        VirtualClock clock = new VirtualClock();
+        TimingWheel wheel = new TimingWheel(clock, 100, 64);
+        GameEngine engine = new GameEngine(clock, 3000);
+        engine.setExpiryScheduler(wheel);
+        engine.initializeGame(GameMode.PLAYER_VS_PLAYER, 3, "Left", "Right", 0);
+        
+        engine.startRound();
+        engine.processKeyPress('a');
+        engine.processKeyPress('l');
+        assertEquals(0, wheel.size());
+        
+        clock.advance(5000);
+        assertEquals(0, wheel.advance());
+        assertEquals(1, engine.getGameState().getCurrentRound());
+    }
+}
@@ -0,0 +1,87 @@
+package player;
+
+import org.junit.jupiter.api.Test;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the layered ForkableIntArray, checked against plain array copies
+ */
+public class ForkableIntArrayTest {
+    
+    @Test
+    public void testForksMatchIndependentCopies() {
+        Random random = new Random(21);
+        List<ForkableIntArray> tables = new ArrayList<>();
+        List<int[]> expected = new ArrayList<>();
+        tables.add(new ForkableIntArray(500));
+        expected.add(new int[500]);
+        for (int step = 0; step < 20_000; step++) {
+            int which = random.nextInt(tables.size());
+            ForkableIntArray table = tables.get(which);
+            int[] reference = expected.get(which);
+            int action = random.nextInt(100);
+            if (action < 3 && tables.size() < 64) {
+                tables.add(table.fork());
+                expected.add(reference.clone());
+            } else if (action < 50) {
+                int index = random.nextInt(reference.length);
+                int value = random.nextInt(1000);
+                table.set(index, value);
+                reference[index] = value;
+            } else if (action < 90) {
+                int index = random.nextInt(reference.length);
+                table.increment(index);
+                reference[index]++;
+            } else {
+                int index = random.nextInt(reference.length);
+                assertEquals(reference[index], table.get(index));
+            }
+        }
+        for (int i = 0; i < tables.size(); i++) {
+            for (int index = 0; index < 500; index++) {
+                assertEquals(expected.get(i)[index], tables.get(i).get(index));
+            }
+        }
+    }
+    
+    @Test
+    public void testDeepForkChains() {
+        ForkableIntArray table = new ForkableIntArray(10_000);
+        ForkableIntArray[] generations = new ForkableIntArray[100];
+        for (int i = 0; i < generations.length; i++) {
+            table.set(i, i + 1);
+            generations[i] = table;
+            table = table.fork();
+        }
+        for (int i = 0; i < generations.length; i++) {
+            // Each generation sees its own writes and its ancestors', not its descendants'
+            for (int index = 0; index <= i; index++) {
+                assertEquals(index + 1, generations[i].get(index));
+            }
+            assertEquals(0, generations[i].get(i + 1));
+        }
+    }
+    
+    @Test
+    public void testGrowAndClear() {
+        ForkableIntArray table = new ForkableIntArray(4);
+        table.set(3, 7);
+        ForkableIntArray fork = table.fork();
+        fork.grow(16);
+        fork.set(12, 5);
+        assertEquals(16, fork.length());
+        assertEquals(7, fork.get(3));
+        assertEquals(5, fork.get(12));
+        assertEquals(0, fork.get(15));
+        assertEquals(4, table.length());
+        
+        fork.clear(8);
+        assertEquals(0, fork.get(3));
+        assertEquals(7, table.get(3));
+        table.clear(4);
+        assertEquals(0, table.get(3));
+    }
+}
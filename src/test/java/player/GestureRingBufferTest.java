@@ -0,0 +1,109 @@
+package player;
+
+import game.Gesture;
+import org.junit.jupiter.api.Test;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the packed GestureRingBuffer
+ */
+public class GestureRingBufferTest {
+    
+    @Test
+    public void testKeepsLatestGestures() {
+        for (int capacity : new int[] {1, 2, 31, 32, 33, 100}) {
+            GestureRingBuffer buffer = new GestureRingBuffer(capacity);
+            List<Gesture> all = new ArrayList<>();
+            Random random = new Random(capacity);
+            for (int i = 0; i < 250; i++) {
+                Gesture gesture = Gesture.random(random);
+                buffer.append(gesture);
+                all.add(gesture);
+                
+                assertEquals(Math.min(all.size(), capacity), buffer.size());
+                assertEquals(all.size(), buffer.getTotal());
+                for (int age = 0; age < buffer.size(); age++) {
+                    assertEquals(all.get(all.size() - 1 - age), buffer.get(age));
+                }
+            }
+            assertThrows(IndexOutOfBoundsException.class, () -> buffer.get(buffer.size()));
+        }
+    }
+    
+    @Test
+    public void testClear() {
+        GestureRingBuffer buffer = new GestureRingBuffer(4);
+        buffer.append(Gesture.ROCK);
+        buffer.append(Gesture.PAPER);
+        buffer.clear();
+        assertTrue(buffer.isEmpty());
+        assertEquals(0, buffer.size());
+        buffer.append(Gesture.SCISSORS);
+        assertEquals(1, buffer.size());
+        assertEquals(Gesture.SCISSORS, buffer.get(0));
+    }
+    
+    @Test
+    public void testForkIsCopyOnWrite() {
+        GestureRingBuffer buffer = new GestureRingBuffer(8);
+        for (int i = 0; i < 10; i++) {
+            buffer.append(Gesture.ROCK);
+        }
+        GestureRingBuffer fork = buffer.fork();
+        fork.append(Gesture.PAPER);
+        buffer.append(Gesture.SCISSORS);
+        
+        assertEquals(Gesture.PAPER, fork.get(0));
+        assertEquals(Gesture.SCISSORS, buffer.get(0));
+        for (int age = 1; age < 8; age++) {
+            assertEquals(Gesture.ROCK, fork.get(age));
+            assertEquals(Gesture.ROCK, buffer.get(age));
+        }
+    }
+    
+    @Test
+    public void testForksAcrossChunks() {
+        Random random = new Random(6);
+        GestureRingBuffer buffer = new GestureRingBuffer(5_000);
+        List<Gesture> all = new ArrayList<>();
+        for (int i = 0; i < 7_000; i++) {
+            Gesture gesture = Gesture.random(random);
+            buffer.append(gesture);
+            all.add(gesture);
+        }
+        GestureRingBuffer fork = buffer.fork();
+        List<Gesture> forkAll = new ArrayList<>(all);
+        // Both write past several chunk boundaries and wrap around
+        for (int i = 0; i < 4_000; i++) {
+            Gesture gesture = Gesture.random(random);
+            buffer.append(gesture);
+            all.add(gesture);
+            fork.append(gesture.counter());
+            forkAll.add(gesture.counter());
+            if (i == 2_000) {
+                fork = fork.fork();
+            }
+        }
+        for (int age = 0; age < 5_000; age++) {
+            assertEquals(all.get(all.size() - 1 - age), buffer.get(age));
+            assertEquals(forkAll.get(forkAll.size() - 1 - age), fork.get(age));
+        }
+    }
+    
+    @Test
+    public void testComputerPlayerMemoryIsBounded() {
+        ComputerPlayer computer = new ComputerPlayer("Computer", 2, new Random(5), 16);
+        for (int i = 0; i < 100_000; i++) {
+            computer.observeOpponentGesture(Gesture.fromOrdinal(i % 3));
+        }
+        GestureRingBuffer history = computer.getOpponentHistory();
+        assertEquals(16, history.size());
+        assertEquals(100_000, history.getTotal());
+        assertEquals(Gesture.fromOrdinal(99_999 % 3), history.get(0));
+        assertNotNull(computer.makeChoice());
+        assertThrows(IllegalArgumentException.class, () -> new ComputerPlayer("Computer", 2, null, 1));
+    }
+}
@@ -0,0 +1,122 @@
+package player;
+
+import game.Gesture;
+import org.junit.jupiter.api.Test;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.Random;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Unit tests for the order-k MarkovPredictor
+ */
+public class MarkovPredictorTest {
+    
+    @Test
+    public void testNoPredictionWithoutEvidence() {
+        MarkovPredictor markov = new MarkovPredictor(3);
+        assertEquals(-1, markov.predict());
+        markov.observe(0);
+        // The context "Rock" has never been followed by anything yet
+        assertEquals(-1, markov.predict());
+        markov.observe(0);
+        assertEquals(0, markov.predict());
+    }
+    
+    @Test
+    public void testLongerContextResolvesPattern() {
+        // Rock, Rock, Paper repeated: order 1 cannot tell what follows Rock, order 2 can
+        int[] pattern = {0, 0, 1};
+        MarkovPredictor markov = new MarkovPredictor(2);
+        for (int i = 0; i < 30; i++) {
+            markov.observe(pattern[i % 3]);
+        }
+        for (int i = 30; i < 60; i++) {
+            assertEquals(pattern[i % 3], markov.predict());
+            markov.observe(pattern[i % 3]);
+        }
+        
+        MarkovPredictor firstOrder = new MarkovPredictor(1);
+        for (int i = 0; i < 30; i++) {
+            firstOrder.observe(pattern[i % 3]);
+        }
+        // After Paper comes Rock, after Rock comes Rock or Paper equally often
+        assertEquals(0, firstOrder.predict());
+    }
+    
+    @Test
+    public void testForkIsCopyOnWrite() {
+        MarkovPredictor markov = new MarkovPredictor(1);
+        for (int i = 0; i < 10; i++) {
+            markov.observe(2);
+        }
+        MarkovPredictor fork = markov.fork();
+        for (int i = 0; i < 50; i++) {
+            fork.observe(2);
+            fork.observe(1);
+        }
+        assertEquals(2, markov.predict());
+        assertEquals(2, fork.predict());
+        fork.observe(2);
+        assertEquals(1, fork.predict());
+        assertEquals(2, markov.predict());
+        
+        markov.clear();
+        assertEquals(-1, markov.predict());
+        assertEquals(1, fork.predict());
+    }
+    
+    @Test
+    public void testForkCostIsProportionalToBranch() {
+        MarkovPredictor markov = new MarkovPredictor(MarkovPredictor.MAX_ORDER);
+        Random random = new Random(10);
+        for (int i = 0; i < 100_000; i++) {
+            markov.observe(random.nextInt(3));
+        }
+        // Thousands of short branches, each playing a few rounds
+        int forks = 2_000;
+        long allocated = allocatedBytes();
+        MarkovPredictor[] branches = new MarkovPredictor[forks];
+        for (int i = 0; i < forks; i++) {
+            branches[i] = markov.fork();
+            for (int round = 0; round < 3; round++) {
+                branches[i].observe(random.nextInt(3));
+            }
+            branches[i].predict();
+        }
+        allocated = allocatedBytes() - allocated;
+        // A copy of the order-8 count table alone would be 118 KB per branch
+        assertTrue(allocated < forks * 4_096L, allocated / forks + " bytes per fork");
+    }
+    
+    /**
+     * Bytes allocated by the current thread so far
+     */
+    static long allocatedBytes() {
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        assumeTrue(threads instanceof com.sun.management.ThreadMXBean);
+        com.sun.management.ThreadMXBean allocation = (com.sun.management.ThreadMXBean) threads;
+        assumeTrue(allocation.isThreadAllocatedMemoryEnabled());
+        return allocation.getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+    
+    @Test
+    public void testExpertExploitsRepeatedSequence() {
+        Gesture[] sequence = {Gesture.ROCK, Gesture.SCISSORS, Gesture.SCISSORS, Gesture.PAPER, Gesture.ROCK};
+        ComputerPlayer expert = new ComputerPlayer("Expert", 3, new Random(9));
+        assertEquals(3, expert.getDifficulty());
+        int wins = 0;
+        for (int i = 0; i < 1_000; i++) {
+            Gesture opponent = sequence[i % sequence.length];
+            // Once every context has been seen, each prediction is right, also after
+            // the recency weights have been renormalized
+            if (expert.makeChoice().beats(opponent) && i >= 20) {
+                wins++;
+            }
+            expert.observeOpponentGesture(opponent);
+        }
+        assertEquals(980, wins);
+        assertThrows(IllegalArgumentException.class, () -> new MarkovPredictor(MarkovPredictor.MAX_ORDER + 1));
+    }
+}
@@ -0,0 +1,178 @@
+package player;
+
+import game.Gesture;
+import org.junit.jupiter.api.Test;
+import java.util.Random;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the SuffixAutomatonPredictor, checked against a brute-force search
+ */
+public class SuffixAutomatonPredictorTest {
+    
+    /**
+     * Longest suffix of s[from, to) that also ends earlier, and the gesture after its first occurrence
+     * @return {match length, predicted ordinal or -1}
+     */
+    private static int[] bruteForce(int[] s, int from, int to) {
+        for (int length = to - from - 1; length >= 1; length--) {
+            for (int end = from + length - 1; end < to - 1; end++) {
+                boolean equal = true;
+                for (int k = 0; k < length && equal; k++) {
+                    equal = s[end - k] == s[to - 1 - k];
+                }
+                if (equal) {
+                    return new int[] {length, s[end + 1]};
+                }
+            }
+        }
+        return new int[] {0, -1};
+    }
+    
+    @Test
+    public void testMatchesBruteForce() {
+        Random random = new Random(11);
+        for (int trial = 0; trial < 20; trial++) {
+            int n = 200;
+            int[] s = new int[n];
+            // Mostly a few repeated motifs, so long matches occur
+            for (int i = 0; i < n; i++) {
+                s[i] = random.nextInt(4) == 0 || i < 8 ? random.nextInt(3) : s[i - 1 - random.nextInt(7)];
+            }
+            SuffixAutomatonPredictor automaton = new SuffixAutomatonPredictor(1_000);
+            for (int i = 0; i < n; i++) {
+                automaton.observe(s[i]);
+                int[] expected = bruteForce(s, 0, i + 1);
+                assertEquals(expected[0], automaton.getMatchLength(), "length at " + i);
+                assertEquals(expected[1], automaton.predict(), "prediction at " + i);
+            }
+        }
+    }
+    
+    @Test
+    public void testRebuildKeepsLatestWindow() {
+        Random random = new Random(12);
+        int capacity = 64;
+        int[] s = new int[1_000];
+        SuffixAutomatonPredictor automaton = new SuffixAutomatonPredictor(capacity);
+        for (int i = 0; i < s.length; i++) {
+            s[i] = random.nextInt(3);
+            automaton.observe(s[i]);
+            assertTrue(automaton.size() <= capacity);
+            int from = i + 1 - automaton.size();
+            int[] expected = bruteForce(s, from, i + 1);
+            assertEquals(expected[0], automaton.getMatchLength());
+            assertEquals(expected[1], automaton.predict());
+        }
+    }
+    
+    @Test
+    public void testForkIsCopyOnWrite() {
+        SuffixAutomatonPredictor automaton = new SuffixAutomatonPredictor(100);
+        int[] prefix = {0, 1, 2, 0, 1};
+        for (int gesture : prefix) {
+            automaton.observe(gesture);
+        }
+        // "0 1" occurred before, followed by 2
+        assertEquals(2, automaton.predict());
+        SuffixAutomatonPredictor fork = automaton.fork();
+        fork.observe(2);
+        automaton.observe(1);
+        // "0 1 2" occurred before, followed by 0
+        assertEquals(0, fork.predict());
+        assertEquals(3, fork.getMatchLength());
+        // Only "1" occurred before, followed by 2
+        assertEquals(2, automaton.predict());
+        assertEquals(1, automaton.getMatchLength());
+        
+        fork.clear();
+        assertEquals(-1, fork.predict());
+        assertEquals(6, automaton.size());
+    }
+    
+    @Test
+    public void testForkCostIsProportionalToBranch() {
+        SuffixAutomatonPredictor automaton = new SuffixAutomatonPredictor(65_536);
+        Random random = new Random(15);
+        for (int i = 0; i < 60_000; i++) {
+            automaton.observe(random.nextInt(3));
+        }
+        int forks = 2_000;
+        long allocated = MarkovPredictorTest.allocatedBytes();
+        SuffixAutomatonPredictor[] branches = new SuffixAutomatonPredictor[forks];
+        for (int i = 0; i < forks; i++) {
+            branches[i] = automaton.fork();
+            for (int round = 0; round < 3; round++) {
+                branches[i].observe(random.nextInt(3));
+            }
+            branches[i].predict();
+        }
+        allocated = MarkovPredictorTest.allocatedBytes() - allocated;
+        // Copying the state tables and the history would take megabytes per branch
+        assertTrue(allocated < forks * 8_192L, allocated / forks + " bytes per fork");
+    }
+    
+    @Test
+    public void testForksMatchFreshAutomaton() {
+        Random random = new Random(16);
+        int[] s = new int[3_000];
+        for (int i = 0; i < s.length; i++) {
+            s[i] = random.nextInt(4) == 0 || i < 8 ? random.nextInt(3) : s[i - 1 - random.nextInt(7)];
+        }
+        SuffixAutomatonPredictor automaton = new SuffixAutomatonPredictor(512);
+        for (int i = 0; i < 1_000; i++) {
+            automaton.observe(s[i]);
+        }
+        // Branch, keep branching the branch and compare against an unforked automaton
+        SuffixAutomatonPredictor branch = automaton.fork();
+        SuffixAutomatonPredictor reference = new SuffixAutomatonPredictor(512);
+        for (int i = 0; i < 1_000; i++) {
+            reference.observe(s[i]);
+        }
+        for (int i = 1_000; i < s.length; i++) {
+            if (i % 5 == 0) {
+                branch.fork().observe(random.nextInt(3));
+                branch = branch.fork();
+            }
+            branch.observe(s[i]);
+            reference.observe(s[i]);
+            assertEquals(reference.getMatchLength(), branch.getMatchLength());
+            assertEquals(reference.predict(), branch.predict());
+        }
+        // The original is untouched by its branches
+        SuffixAutomatonPredictor original = new SuffixAutomatonPredictor(512);
+        for (int i = 0; i < 1_000; i++) {
+            original.observe(s[i]);
+        }
+        assertEquals(original.size(), automaton.size());
+        assertEquals(original.getMatchLength(), automaton.getMatchLength());
+        assertEquals(original.predict(), automaton.predict());
+    }
+    
+    @Test
+    public void testMasterExploitsLongSequence() {
+        // A long random sequence repeated: only long contexts tell its positions apart
+        Random random = new Random(13);
+        Gesture[] sequence = new Gesture[200];
+        for (int i = 0; i < sequence.length; i++) {
+            sequence[i] = Gesture.random(random);
+        }
+        ComputerPlayer master = new ComputerPlayer("Master", 4, new Random(14));
+        assertEquals(4, master.getDifficulty());
+        int wins = 0;
+        for (int i = 0; i < 2_000; i++) {
+            Gesture opponent = sequence[i % sequence.length];
+            if (i >= sequence.length + 20 && master.makeChoice().beats(opponent)) {
+                wins++;
+            } else if (i < sequence.length + 20) {
+                master.makeChoice();
+            }
+            master.observeOpponentGesture(opponent);
+        }
+        assertEquals(2_000 - sequence.length - 20, wins);
+        
+        ComputerPlayer fork = master.fork();
+        master.resetForNewGame();
+        assertNotNull(fork.makeChoice());
+    }
+}
@@ -0,0 +1,64 @@
+package server;
+
+import game.GameClock;
+import game.GameEngine.GameEngineListener;
+import game.GameMode;
+import game.GameState;
+import game.Gesture;
+import org.junit.jupiter.api.Test;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the sharded MatchRuntime
+ */
+public class MatchRuntimeTest {
+    
+    @Test
+    public void testManyConcurrentMatches() throws InterruptedException {
+        int matchCount = 2000;
+        CountDownLatch finished = new CountDownLatch(matchCount);
+        AtomicInteger player1Champions = new AtomicInteger();
+        MatchRuntime runtime = new MatchRuntime(4, GameClock.SYSTEM, 60_000, 10);
+        
+        try {
+            GameEngineListener listener = new GameEngineListener() {
+                public void onGameInitialized(GameState gameState) { }
+                public void onRoundStarted(int roundNumber) { }
+                public void onPlayerGestureSubmitted(int playerNumber, Gesture gesture) { }
+                public void onRoundResult(Gesture gesture1, Gesture gesture2, int winner, String message) { }
+                public void onGameEnded(int winner, GameState gameState) {
+                    if (winner == 1) {
+                        player1Champions.incrementAndGet();
+                    }
+                    finished.countDown();
+                }
+            };
+            
+            long[] ids = new long[matchCount];
+            for (int i = 0; i < matchCount; i++) {
+                ids[i] = runtime.createMatch(GameMode.PLAYER_VS_PLAYER, 3, "Left", "Right", 0, listener);
+            }
+            // Rock beats Scissors twice: player 1 takes every best-of-3
+            for (int round = 0; round < 2; round++) {
+                for (long id : ids) {
+                    runtime.startRound(id);
+                    runtime.keyPress(id, 'a');
+                    runtime.keyPress(id, 'l');
+                }
+            }
+            
+            assertTrue(finished.await(10, TimeUnit.SECONDS));
+            assertEquals(matchCount, player1Champions.get());
+            assertEquals(matchCount, runtime.getMatchCount());
+            
+            for (long id : ids) {
+                runtime.closeMatch(id);
+            }
+        } finally {
+            runtime.shutdown();
+        }
+    }
+}
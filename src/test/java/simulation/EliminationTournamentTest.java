@@ -0,0 +1,49 @@
+package simulation;
+
+import player.ComputerPlayer;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the EliminationTournament bracket
+ */
+public class EliminationTournamentTest {
+    
+    @Test
+    public void testBracketHalvesWithByes() {
+        EliminationTournament tournament = new EliminationTournament(3,
+            seat -> new ComputerPlayer("Bot", seat % 3));
+        
+        EliminationResult result = tournament.run(5_001, 4);
+        
+        assertEquals(5_001, result.getPlayers());
+        assertEquals(13, result.getBracketRounds());
+        assertEquals(2_501, result.getSurvivorCount(1));
+        assertEquals(1, result.getSurvivorCount(result.getBracketRounds()));
+        assertTrue(result.getMatches() >= 5_000);
+        assertTrue(result.getPeakHeapBytes() > 0);
+        
+        // Every survivor came out of its own pairing in the round before
+        for (int round = 1; round <= result.getBracketRounds(); round++) {
+            for (int i = 0; i < result.getSurvivorCount(round); i++) {
+                int survivor = result.getSurvivor(round, i);
+                int first = result.getSurvivor(round - 1, 2 * i);
+                boolean hasSecond = 2 * i + 1 < result.getSurvivorCount(round - 1);
+                assertTrue(survivor == first
+                           || (hasSecond && survivor == result.getSurvivor(round - 1, 2 * i + 1)));
+            }
+        }
+    }
+    
+    @Test
+    public void testSinglePlayerIsChampion() {
+        EliminationTournament tournament = new EliminationTournament(3,
+            seat -> new ComputerPlayer("Bot", 0));
+        
+        EliminationResult result = tournament.run(1, 2);
+        
+        assertEquals(0, result.getBracketRounds());
+        assertEquals(0, result.getChampion());
+        assertEquals(0, result.getMatches());
+    }
+}
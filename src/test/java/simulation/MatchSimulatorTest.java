@@ -0,0 +1,119 @@
+package simulation;
+
+import game.Gesture;
+import player.ComputerPlayer;
+import player.Player;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the headless MatchSimulator
+ */
+public class MatchSimulatorTest {
+    
+    /**
+     * Always throws the same gesture
+     */
+    private static class FixedPlayer extends Player {
+        private final Gesture gesture;
+        
+        FixedPlayer(String name, Gesture gesture) {
+            super(name);
+            this.gesture = gesture;
+        }
+        
+        @Override
+        public FixedPlayer fork() {
+            return new FixedPlayer(name, gesture);
+        }
+        
+        @Override
+        public Gesture makeChoice() {
+            return gesture;
+        }
+    }
+    
+    @Test
+    public void testDeterministicPlayers() {
+        MatchSimulator simulator = new MatchSimulator(5,
+            () -> new FixedPlayer("Rock", Gesture.ROCK),
+            () -> new FixedPlayer("Scissors", Gesture.SCISSORS));
+        
+        SimulationResult result = simulator.run(100);
+        
+        assertEquals(100, result.getMatches());
+        assertEquals(100, result.getPlayer1Wins());
+        assertEquals(0, result.getPlayer2Wins());
+        // Three straight wins settle a best-of-5
+        assertEquals(300, result.getRounds());
+    }
+    
+    @Test
+    public void testAllDrawsRunToRoundCap() {
+        MatchSimulator simulator = new MatchSimulator(3,
+            () -> new FixedPlayer("Paper", Gesture.PAPER),
+            () -> new FixedPlayer("Paper", Gesture.PAPER));
+        
+        SimulationResult result = simulator.run(10);
+        
+        assertEquals(10, result.getDraws());
+        assertEquals(30, result.getRounds());
+    }
+    
+    @Test
+    public void testMultiThreadedTotals() {
+        MatchSimulator simulator = new MatchSimulator(3,
+            () -> new ComputerPlayer("Computer 1", 2),
+            () -> new ComputerPlayer("Computer 2", 1));
+        
+        SimulationResult result = simulator.run(10_001, 4);
+        
+        assertEquals(10_001, result.getMatches());
+        assertEquals(4, result.getThreads());
+        assertEquals(result.getMatches(),
+                     result.getPlayer1Wins() + result.getPlayer2Wins() + result.getDraws());
+        assertTrue(result.getRounds() >= 2 * result.getMatches());
+    }
+    
+    @Test
+    public void testSequentialStopsEarlyOnClearResult() {
+        MatchSimulator simulator = new MatchSimulator(3,
+            () -> new FixedPlayer("Rock", Gesture.ROCK),
+            () -> new FixedPlayer("Scissors", Gesture.SCISSORS));
+        
+        SequentialResult result = simulator.runSequential(
+            new SequentialTest(0.5, 0.55, 0.05, 0.05), 1_000_000, 2);
+        
+        assertEquals(SequentialTest.Decision.ACCEPT_H1, result.getDecision());
+        assertTrue(result.getSimulation().getMatches() < 10_000);
+        assertEquals(2 * result.getMatchesSaved(), result.getRoundsSaved());
+    }
+    
+    @Test
+    public void testSequentialAcceptsEqualStrength() {
+        MatchSimulator simulator = new MatchSimulator(3,
+            () -> new ComputerPlayer("Computer 1", 0),
+            () -> new ComputerPlayer("Computer 2", 0));
+        
+        SequentialResult result = simulator.runSequential(
+            new SequentialTest(0.5, 0.6, 0.05, 0.05), 1_000_000, 1);
+        
+        assertEquals(SequentialTest.Decision.ACCEPT_H0, result.getDecision());
+        assertTrue(result.getMatchesSaved() > 900_000);
+    }
+    
+    @Test
+    public void testSequentialBudgetRunsOut() {
+        MatchSimulator simulator = new MatchSimulator(3,
+            () -> new FixedPlayer("Paper", Gesture.PAPER),
+            () -> new FixedPlayer("Paper", Gesture.PAPER));
+        
+        SequentialResult result = simulator.runSequential(
+            new SequentialTest(0.45, 0.55, 0.01, 0.01), 1_000, 1);
+        
+        // All draws score exactly 0.5, halfway between the hypotheses, so the test never decides
+        assertEquals(1_000, result.getSimulation().getMatches());
+        assertEquals(0, result.getMatchesSaved());
+        assertEquals(SequentialTest.Decision.CONTINUE, result.getDecision());
+    }
+}
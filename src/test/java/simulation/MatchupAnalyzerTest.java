@@ -0,0 +1,49 @@
+package simulation;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the MatchupAnalyzer
+ */
+public class MatchupAnalyzerTest {
+    
+    @Test
+    public void testDefaultStrategiesMatrix() {
+        MatchupAnalyzer analyzer = new MatchupAnalyzer(MatchupAnalyzer.defaultStrategies(), 3, 42L);
+        
+        MatchupReport report = analyzer.run(5_001, 4);
+        CrossTable table = report.getTable();
+        
+        int cycler = 3;
+        int copycat = 5;
+        for (int i = 0; i < table.size(); i++) {
+            for (int j = 0; j < table.size(); j++) {
+                assertEquals(i == j ? 0 : 5_001, table.getMatches(i, j));
+            }
+            assertTrue(report.getRoundsPerSecond(i) > 0);
+        }
+        // A copycat throws the cycler's last gesture, which the cycler's next gesture beats
+        assertTrue(table.getScore(cycler, copycat) > 0.9);
+        assertEquals(1.0, table.getScore(cycler, copycat) + table.getScore(copycat, cycler), 1e-9);
+        assertTrue(table.getStandardError(cycler, copycat) < 0.01);
+    }
+    
+    @Test
+    public void testSameSeedSameResults() {
+        MatchupAnalyzer analyzer = new MatchupAnalyzer(MatchupAnalyzer.defaultStrategies(), 3, 7L);
+        CrossTable first = analyzer.run(4_500, 4).getTable();
+        CrossTable second = analyzer.run(4_500, 2).getTable();
+        CrossTable other = new MatchupAnalyzer(MatchupAnalyzer.defaultStrategies(), 3, 8L).run(4_500, 4).getTable();
+        
+        boolean differs = false;
+        for (int i = 0; i < first.size(); i++) {
+            for (int j = 0; j < first.size(); j++) {
+                assertEquals(first.getWins(i, j), second.getWins(i, j));
+                assertEquals(first.getDraws(i, j), second.getDraws(i, j));
+                differs |= first.getWins(i, j) != other.getWins(i, j);
+            }
+        }
+        assertTrue(differs);
+    }
+}
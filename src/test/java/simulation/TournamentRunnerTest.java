@@ -0,0 +1,66 @@
+package simulation;
+
+import player.ComputerPlayer;
+import org.junit.jupiter.api.Test;
+import java.util.ArrayList;
+import java.util.List;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the TournamentRunner and its CrossTable
+ */
+public class TournamentRunnerTest {
+    
+    private TournamentRunner createRunner(int strategyCount, long seed) {
+        List<TournamentRunner.Strategy> strategies = new ArrayList<>();
+        for (int i = 0; i < strategyCount; i++) {
+            int difficulty = i % 3;
+            strategies.add(new TournamentRunner.Strategy("Bot " + i,
+                random -> new ComputerPlayer("Bot", difficulty, random)));
+        }
+        return new TournamentRunner(strategies, 3, 500, seed);
+    }
+    
+    @Test
+    public void testRoundRobinIsReproducible() {
+        CrossTable single = createRunner(4, 7).runRoundRobin(1);
+        CrossTable parallel = createRunner(4, 7).runRoundRobin(4);
+        
+        for (int i = 0; i < 4; i++) {
+            for (int j = 0; j < 4; j++) {
+                assertEquals(single.getWins(i, j), parallel.getWins(i, j));
+                assertEquals(single.getDraws(i, j), parallel.getDraws(i, j));
+                assertEquals(i == j ? 0 : 500, single.getMatches(i, j));
+            }
+        }
+        assertEquals(single.toString(), parallel.toString());
+    }
+    
+    @Test
+    public void testScoresAndConfidence() {
+        CrossTable table = new CrossTable(new String[] {"A", "B"});
+        table.record(0, 1, 60, 20, 20);
+        
+        assertEquals(0.7, table.getScore(0, 1), 1e-9);
+        assertEquals(0.3, table.getScore(1, 0), 1e-9);
+        assertEquals(table.getConfidence(0, 1), table.getConfidence(1, 0), 1e-9);
+        assertTrue(table.getConfidence(0, 1) > 0 && table.getConfidence(0, 1) < 0.1);
+        assertEquals(70, table.getTotalScore(0), 1e-9);
+    }
+    
+    @Test
+    public void testSwissAvoidsRematches() {
+        // 5 strategies over 4 rounds: each round pairs four and gives one a bye
+        CrossTable table = createRunner(5, 11).runSwiss(4, 2);
+        
+        long total = 0;
+        for (int i = 0; i < 5; i++) {
+            for (int j = i + 1; j < 5; j++) {
+                // No pairing was played twice
+                assertTrue(table.getMatches(i, j) == 0 || table.getMatches(i, j) == 500);
+                total += table.getMatches(i, j);
+            }
+        }
+        assertEquals(4 * 2 * 500, total);
+    }
+}